@@ -1,17 +1,21 @@
 package com.springcli.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
 import com.springcli.model.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.io.InputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -23,27 +27,44 @@ public class SpringInitializrClient {
     private static final String BASE_URL = "https://start.spring.io";
     private static final String METADATA_ENDPOINT = "/metadata/client";
     private static final String STARTER_ENDPOINT = "/starter.zip";
+    private static final int STREAM_DEMAND = 16;
 
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
 
-    public SpringInitializrClient(WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
-        this.webClient = webClientBuilder.baseUrl(BASE_URL).build();
-        this.objectMapper = objectMapper;
+    @Autowired
+    public SpringInitializrClient(WebClient.Builder webClientBuilder, JsonCodec jsonCodec) {
+        this(webClientBuilder, jsonCodec, BASE_URL);
+    }
+
+    SpringInitializrClient(WebClient.Builder webClientBuilder, JsonCodec jsonCodec, String baseUrl) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.jsonCodec = jsonCodec;
     }
 
     public SpringMetadata fetchMetadata() {
+        return fetchMetadata(null);
+    }
+
+    public SpringMetadata fetchMetadata(SpringMetadata cached) {
         try {
             log.info("Fetching metadata from Spring Initializr...");
 
-            String response = webClient.get()
+            ResponseEntity<String> response = webClient.get()
                     .uri(METADATA_ENDPOINT)
                     .header("Accept", "application/vnd.initializr.v2.2+json")
+                    .headers(headers -> addConditionalHeaders(headers, cached))
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .toEntity(String.class)
                     .block();
 
-            return parseMetadata(response);
+            if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                log.info("Metadata not modified since last fetch, extending cache");
+                return cached.withCachedAt(System.currentTimeMillis());
+            }
+
+            HttpHeaders headers = response.getHeaders();
+            return parseMetadata(response.getBody(), headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED));
 
         } catch (Exception e) {
             log.error("Failed to fetch metadata from Spring Initializr", e);
@@ -51,47 +72,44 @@ public class SpringInitializrClient {
         }
     }
 
-    public void downloadProject(ProjectConfig config, Path outputPath) {
-        try {
-            log.info("Downloading project from Spring Initializr...");
-
-            Map<String, String> params = buildQueryParams(config);
-            log.info("Request parameters: {}", params);
-
-            webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path(STARTER_ENDPOINT);
-                        params.forEach(uriBuilder::queryParam);
-                        var uri = uriBuilder.build();
-                        log.info("Request URI: {}", uri);
-                        return uri;
-                    })
-                    .retrieve()
-                    .bodyToFlux(DataBuffer.class)
-                    .transform(flux -> DataBufferUtils.write(
-                            flux,
-                            outputPath,
-                            StandardOpenOption.CREATE,
-                            StandardOpenOption.TRUNCATE_EXISTING
-                    ))
-                    .blockLast();
+    private void addConditionalHeaders(HttpHeaders headers, SpringMetadata cached) {
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, cached.etag());
+        }
+        if (cached.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+        }
+    }
 
-            log.info("Project downloaded successfully to: {}", outputPath);
+    public InputStream streamProject(ProjectConfig config) {
+        log.info("Streaming project from Spring Initializr...");
 
-        } catch (Exception e) {
-            log.error("Failed to download project", e);
-            throw new RuntimeException("Failed to download project: " + e.getMessage(), e);
-        }
+        Map<String, String> params = buildQueryParams(config);
+        log.info("Request parameters: {}", params);
+
+        return DataBufferUtils.subscriberInputStream(requestStarter(params), STREAM_DEMAND);
+    }
+
+    private Flux<DataBuffer> requestStarter(Map<String, String> params) {
+        return webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(STARTER_ENDPOINT);
+                    params.forEach(uriBuilder::queryParam);
+                    var uri = uriBuilder.build();
+                    log.info("Request URI: {}", uri);
+                    return uri;
+                })
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
     }
 
-    private Map<String, String> buildQueryParams(ProjectConfig config) {
+    public Map<String, String> buildQueryParams(ProjectConfig config) {
         Map<String, String> params = new LinkedHashMap<>();
 
-        String buildTool = config.buildTool().toLowerCase();
-        if (!buildTool.endsWith("-project")) {
-            buildTool = buildTool.contains("gradle") ? "gradle-project" : "maven-project";
-        }
-        params.put("type", buildTool);
+        params.put("type", normalizeProjectType(config.buildTool()));
 
         params.put("language", config.language() != null ? config.language() : "java");
         params.put("bootVersion", config.springBootVersion());
@@ -105,15 +123,23 @@ public class SpringInitializrClient {
         params.put("baseDir", config.artifactId());
 
         if (!config.dependencies().isEmpty()) {
-            String deps = String.join(",", config.dependencies());
+            String deps = config.dependencies().stream().sorted().collect(Collectors.joining(","));
             params.put("dependencies", deps);
         }
 
         return params;
     }
 
-    private SpringMetadata parseMetadata(String jsonResponse) throws IOException {
-        JsonNode root = objectMapper.readTree(jsonResponse);
+    public static String normalizeProjectType(String buildTool) {
+        String type = buildTool.toLowerCase();
+        if (!type.endsWith("-project") && !type.endsWith("-project-kotlin")) {
+            type = type.contains("gradle") ? "gradle-project" : "maven-project";
+        }
+        return type;
+    }
+
+    private SpringMetadata parseMetadata(String jsonResponse, String etag, String lastModified) throws IOException {
+        JsonNode root = jsonCodec.readTree(jsonResponse);
 
         String defaultBootVersion = extractDefaultValue(root, "bootVersion");
         List<String> bootVersions = extractValues(root, "bootVersion");
@@ -138,7 +164,9 @@ public class SpringInitializrClient {
                 languages,
                 defaultLanguage,
                 dependencyGroups,
-                System.currentTimeMillis()
+                System.currentTimeMillis(),
+                etag,
+                lastModified
         );
     }
 
@@ -11,6 +11,7 @@ import org.springframework.shell.component.SingleItemSelector;
 import org.springframework.shell.component.support.SelectorItem;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import org.springframework.shell.style.TemplateExecutor;
 
 import java.util.*;
@@ -27,6 +28,8 @@ public class GenerateCommand {
     private final ConsoleService consoleService;
     private final UISelector uiSelector;
     private final FeatureCustomizer featureCustomizer;
+    private final EntitySchemaService entitySchemaService;
+    private final BatchGenerationService batchGenerationService;
     private final Terminal terminal;
     private final ResourceLoader resourceLoader;
     private final TemplateExecutor templateExecutor;
@@ -79,6 +82,47 @@ public class GenerateCommand {
         }
     }
 
+    @ShellMethod(key = "generate-batch", value = "Generate several projects from a JSON or YAML manifest without prompts")
+    public void generateBatch(
+            @ShellOption(help = "Path to the manifest file") String manifest,
+            @ShellOption(help = "Maximum number of projects generated at once", defaultValue = "4") int parallelism) {
+        try {
+            List<ProjectConfig> configs = batchGenerationService.loadManifest(java.nio.file.Paths.get(manifest));
+
+            consoleService.printInfo("\nGenerating " + configs.size() + " projects (parallelism " + parallelism + ")...\n");
+            long start = System.nanoTime();
+            List<BatchGenerationService.BatchResult> results = batchGenerationService.generateAll(configs, parallelism);
+            long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+            printBatchResults(results, totalMs);
+        } catch (Exception e) {
+            consoleService.printError("Batch generation failed: " + e.getMessage());
+        }
+    }
+
+    private void printBatchResults(List<BatchGenerationService.BatchResult> results, long totalMs) {
+        int nameWidth = Math.max(7, results.stream().mapToInt(result -> result.artifactId().length()).max().orElse(0));
+        String row = "  %-" + nameWidth + "s  %-8s  %8s  %s";
+
+        consoleService.printSeparator();
+        consoleService.printInfo(String.format(row, "PROJECT", "STATUS", "TIME", "DETAILS"));
+        consoleService.printSeparator();
+
+        for (BatchGenerationService.BatchResult result : results) {
+            String line = String.format(row, result.artifactId(), result.success() ? "✓ OK" : "✗ FAILED",
+                    result.durationMs() + " ms", result.success() ? result.projectRoot() : result.error());
+            if (result.success()) {
+                consoleService.printSuccess(line);
+            } else {
+                consoleService.printError(line);
+            }
+        }
+
+        long succeeded = results.stream().filter(BatchGenerationService.BatchResult::success).count();
+        consoleService.printSeparator();
+        consoleService.printInfo(String.format("  %d/%d projects generated in %d ms", succeeded, results.size(), totalMs));
+    }
+
     private Optional<Preset> selectPreset() {
         List<Preset> presets = presetService.getAllPresets();
 
@@ -164,6 +208,8 @@ public class GenerateCommand {
         consoleService.printInfo("\n📐 ARCHITECTURE\n");
         Architecture architecture = uiSelector.selectArchitecture(preset.architecture());
 
+        List<String> entities = askEntities();
+
         Set<String> dependencies = selectDependenciesByCategory(preset.dependencies(), metadata);
 
         ProjectFeatures features = featureCustomizer.customizeFeatures(preset.features(), dependencies);
@@ -185,10 +231,24 @@ public class GenerateCommand {
                 springBootVersion,
                 dependencies,
                 features,
-                output
+                output,
+                entities
         );
     }
 
+    private List<String> askEntities() {
+        while (true) {
+            String input = uiSelector.askString("Entities (comma-separated, or a .json/.yml/.sql schema file):", "Demo");
+            try {
+                List<String> entities = entitySchemaService.resolveEntities(input);
+                consoleService.printInfo("  " + entities.size() + " entities: " + String.join(", ", entities));
+                return entities;
+            } catch (RuntimeException e) {
+                consoleService.printError("  " + e.getMessage());
+            }
+        }
+    }
+
     private String askValidArtifactId(String prompt, String defaultValue, String outputDir) {
         String artifactId;
         int attempts = 0;
@@ -542,6 +602,8 @@ public class GenerateCommand {
         consoleService.printInfo("\n📐 ARCHITECTURE\n");
         Architecture architecture = uiSelector.selectArchitecture(Architecture.CLEAN);
 
+        List<String> entities = askEntities();
+
         Set<String> dependencies = selectDependenciesByCategory(new HashSet<>(), metadata);
 
         ProjectFeatures features = featureCustomizer.customizeFeatures(ProjectFeatures.defaults(), dependencies);
@@ -563,7 +625,8 @@ public class GenerateCommand {
                 springBootVersion,
                 dependencies,
                 features,
-                output
+                output,
+                entities
         );
     }
 }
\ No newline at end of file
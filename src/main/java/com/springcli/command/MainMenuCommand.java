@@ -117,6 +117,7 @@ public class MainMenuCommand {
             List<SelectorItem<String>> utilityItems = List.of(
                     SelectorItem.of("🗑️  Clear Cache         - Remove cached metadata", "clear-cache"),
                     SelectorItem.of("🔄 Refresh Metadata    - Update from Spring Initializr", "refresh-metadata"),
+                    SelectorItem.of("📦 Starter Cache       - Show starter cache statistics", "starter-cache-stats"),
                     SelectorItem.of("ℹ️  System Info         - Show system information", "system-info"),
                     SelectorItem.of("📖 Help                - Show all available commands", "help"),
                     SelectorItem.of("🔙 Back to Main Menu   - Return to main menu", "back")
@@ -141,6 +142,10 @@ public class MainMenuCommand {
                         utilityCommands.refreshMetadata();
                         waitForKeyPress();
                         break;
+                    case "starter-cache-stats":
+                        utilityCommands.starterCacheStats();
+                        waitForKeyPress();
+                        break;
                     case "system-info":
                         utilityCommands.info();
                         waitForKeyPress();
@@ -173,6 +178,7 @@ public class MainMenuCommand {
         consoleService.printSuccess("📚 INTERACTIVE MENU COMMANDS:\n");
         consoleService.printInfo("  m, menu              Open interactive menu (recommended)");
         consoleService.printInfo("  generate             Start project generation wizard");
+        consoleService.printInfo("  generate-batch       Generate projects from a manifest file");
         consoleService.printInfo("  preset-manager       Manage custom presets\n");
 
         consoleService.printSuccess("🛠️  UTILITY COMMANDS:\n");
@@ -181,6 +187,8 @@ public class MainMenuCommand {
         consoleService.printInfo("  reset-config         Reset configuration to defaults");
         consoleService.printInfo("  clear-cache          Clear metadata cache");
         consoleService.printInfo("  refresh-metadata     Refresh metadata from Spring Initializr");
+        consoleService.printInfo("  starter-cache-stats  Show starter project cache statistics");
+        consoleService.printInfo("  template-stats       Show template compilation statistics");
         consoleService.printInfo("  info                 Show system information");
         consoleService.printInfo("  version              Show CLI version");
         consoleService.printInfo("  clear                Clear terminal screen\n");
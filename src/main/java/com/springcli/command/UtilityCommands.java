@@ -2,12 +2,15 @@ package com.springcli.command;
 
 import com.springcli.infra.console.ConsoleService;
 import com.springcli.model.Architecture;
+import com.springcli.model.MetadataCacheFormat;
 import com.springcli.model.Preset;
 import com.springcli.model.UserConfig;
 import com.springcli.service.CacheService;
 import com.springcli.service.ConfigService;
 import com.springcli.service.MetadataService;
 import com.springcli.service.PresetService;
+import com.springcli.service.StarterCacheService;
+import com.springcli.service.TemplateRegistry;
 import com.springcli.service.UISelector;
 import lombok.RequiredArgsConstructor;
 import org.jline.terminal.Terminal;
@@ -30,6 +33,8 @@ public class UtilityCommands {
     private final PresetService presetService;
     private final ConfigService configService;
     private final CacheService cacheService;
+    private final StarterCacheService starterCacheService;
+    private final TemplateRegistry templateRegistry;
     private final MetadataService metadataService;
     private final ConsoleService consoleService;
     private final UISelector uiSelector;
@@ -69,21 +74,55 @@ public class UtilityCommands {
         consoleService.printInfo("  Default Output Dir: " + config.defaultOutputDir());
         consoleService.printInfo("  Auto Open IDE: " + config.autoOpenIde());
         consoleService.printInfo("  Preferred IDE: " + config.preferredIde());
+        consoleService.printInfo("  Metadata Cache Format: " + config.metadataCacheFormat());
         consoleService.printSeparator();
     }
 
     @ShellMethod(key = "reset-config", value = "Reset configuration to defaults")
     public void resetConfig() {
         configService.resetConfig();
+        cacheService.useFormat(UserConfig.defaults().metadataCacheFormat());
         consoleService.printSuccess("✓ Configuration reset to defaults");
     }
 
     @ShellMethod(key = "clear-cache", value = "Clear metadata cache")
     public void clearCache() {
         cacheService.clearCache();
+        starterCacheService.clear();
         consoleService.printSuccess("✓ Cache cleared successfully");
     }
 
+    @ShellMethod(key = "starter-cache-stats", value = "Show starter project cache statistics")
+    public void starterCacheStats() {
+        StarterCacheService.CacheStats stats = starterCacheService.getStats();
+
+        consoleService.printInfo("\n Starter Cache:\n");
+        consoleService.printSeparator();
+        consoleService.printInfo("  Entries: " + stats.entries());
+        consoleService.printInfo(String.format("  Size: %.1f KB / %.1f MB", stats.totalBytes() / 1024.0, stats.maxBytes() / (1024.0 * 1024.0)));
+        consoleService.printInfo("  Hits: " + stats.hits());
+        consoleService.printInfo("  Misses: " + stats.misses());
+        consoleService.printInfo("  Evictions: " + stats.evictions());
+        consoleService.printInfo(String.format("  Hit Ratio: %.1f%%", stats.hitRatio() * 100));
+        consoleService.printSeparator();
+    }
+
+    @ShellMethod(key = "template-stats", value = "Show template compilation statistics")
+    public void templateStats() {
+        TemplateRegistry.TemplateStats stats = templateRegistry.getStats();
+        if (!stats.warmedUp()) {
+            stats = templateRegistry.warmUp();
+        }
+
+        consoleService.printInfo("\n Templates:\n");
+        consoleService.printSeparator();
+        consoleService.printInfo("  Compiled: " + stats.compiled());
+        consoleService.printInfo("  Failed: " + stats.failed());
+        consoleService.printInfo("  Compile Time: " + stats.compileTimeMs() + " ms");
+        stats.failures().forEach((name, error) -> consoleService.printError("  ✗ " + name + ": " + error));
+        consoleService.printSeparator();
+    }
+
     @ShellMethod(key = "refresh-metadata", value = "Refresh metadata from Spring Initializr")
     public void refreshMetadata() {
         consoleService.printInfo("Refreshing metadata from Spring Initializr...");
@@ -172,6 +211,13 @@ public class UtilityCommands {
 
         boolean useApplicationYml = uiSelector.askYesNo("Use application.yml instead of application.properties?", currentConfig.useApplicationYml());
 
+        List<SelectorItem<String>> cacheFormatItems = List.of(
+                SelectorItem.of("JSON (human-readable)", MetadataCacheFormat.JSON.name()),
+                SelectorItem.of("Binary (fastest startup)", MetadataCacheFormat.BINARY.name())
+        );
+        MetadataCacheFormat cacheFormat = MetadataCacheFormat.valueOf(
+                selectFromList(cacheFormatItems, "Metadata Cache Format:", currentConfig.metadataCacheFormat().name()));
+
         UserConfig newConfig = new UserConfig(
                 groupId,
                 javaVersion,
@@ -182,10 +228,12 @@ public class UtilityCommands {
                 preferredIde,
                 useApplicationYml,
                 generateReadme,
-                generateGitignore
+                generateGitignore,
+                cacheFormat
         );
 
         configService.saveConfig(newConfig);
+        cacheService.useFormat(cacheFormat);
 
         consoleService.clearScreen();
         consoleService.printSuccess("\n✅ CONFIGURATION SAVED!\n");
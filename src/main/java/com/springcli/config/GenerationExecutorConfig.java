@@ -0,0 +1,71 @@
+package com.springcli.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class GenerationExecutorConfig {
+
+    private static final int MAX_CONCURRENT_JOBS = 2;
+    private static final int MAX_QUEUED_JOBS = 16;
+    private static final int MAX_REQUEST_THREADS = 32;
+    private static final int MAX_QUEUED_REQUESTS = 128;
+    private static final int MAX_EVENT_STREAMS = 64;
+    private static final int MAX_QUEUED_REJECTIONS = 32;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService generationExecutor() {
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(parallelism, daemonThreads("spring-cli-gen-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService generationJobExecutor() {
+        return new ThreadPoolExecutor(MAX_CONCURRENT_JOBS, MAX_CONCURRENT_JOBS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_JOBS), daemonThreads("spring-cli-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService webRequestExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_REQUEST_THREADS, MAX_REQUEST_THREADS, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS), daemonThreads("spring-cli-web-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService webRejectionExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_REJECTIONS), daemonThreads("spring-cli-web-busy-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService eventStreamExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_EVENT_STREAMS, MAX_EVENT_STREAMS, 30L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreads("spring-cli-sse-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
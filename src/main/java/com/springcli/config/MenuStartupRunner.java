@@ -17,11 +17,13 @@ public class MenuStartupRunner implements ApplicationRunner {
 
     private final MainMenuCommand mainMenuCommand;
     private final ConsoleService consoleService;
+    private final StartupUpdateChecker startupUpdateChecker;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
         if (args.getSourceArgs().length == 0) {
             consoleService.clearScreen();
+            startupUpdateChecker.printNoticeIfReady();
             mainMenuCommand.showMainMenu();
         }
     }
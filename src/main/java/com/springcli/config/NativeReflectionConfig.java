@@ -1,6 +1,8 @@
 package com.springcli.config;
 
 import com.springcli.model.*;
+import com.springcli.web.dto.GenerationRequest;
+import com.springcli.web.dto.GenerationResponse;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,11 +17,18 @@ import org.springframework.context.annotation.Configuration;
         BuildToolOption.class,
         Dependency.class,
         DependencyGroup.class,
+        Feature.class,
+        Feature.FeatureFile.class,
+        GenerationEvent.class,
+        GenerationJob.class,
+        GenerationRequest.class,
+        GenerationResponse.class,
+        GenerationStage.class,
+        MetadataCacheFormat.class,
         Preset.class,
         ProjectConfig.class,
         ProjectFeatures.class,
         SpringMetadata.class,
-        TemplateContext.class,
         UserConfig.class
 })
 public class NativeReflectionConfig {
@@ -9,25 +9,47 @@ import org.jline.utils.AttributedStringBuilder;
 import org.jline.utils.AttributedStyle;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Order(-3)
 @Profile("!test")
 public class StartupUpdateChecker implements CommandLineRunner {
 
     private final UpdateCheckService updateCheckService;
     private final Terminal terminal;
 
+    private volatile CompletableFuture<UpdateInfo> pendingCheck = CompletableFuture.completedFuture(null);
+    private boolean notified;
+
     @Override
     public void run(String... args) throws Exception {
-        UpdateInfo updateInfo = updateCheckService.checkForUpdates();
+        pendingCheck = updateCheckService.checkForUpdatesAsync();
+
+        if (args.length > 0) {
+            printNoticeIfReady();
+        }
+    }
+
+    public synchronized void printNoticeIfReady() throws IOException {
+        if (notified) {
+            return;
+        }
+
+        Optional<UpdateInfo> updateInfo = pendingCheck.isDone()
+                ? Optional.ofNullable(pendingCheck.getNow(null))
+                : updateCheckService.getLastKnownResult();
 
-        if (updateInfo.updateAvailable()) {
-            displayUpdateNotification(updateInfo);
+        if (updateInfo.isPresent() && updateInfo.get().updateAvailable()) {
+            notified = true;
+            displayUpdateNotification(updateInfo.get());
         }
     }
 
@@ -0,0 +1,59 @@
+package com.springcli.config;
+
+import com.springcli.infra.console.ConsoleService;
+import com.springcli.service.TemplateRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Order(-2)
+@Profile("!test")
+public class TemplateWarmupRunner implements ApplicationRunner {
+
+    private final TemplateRegistry templateRegistry;
+    private final ConsoleService consoleService;
+    private final boolean failFast;
+
+    public TemplateWarmupRunner(TemplateRegistry templateRegistry, ConsoleService consoleService,
+                                @Value("${spring-cli.templates.fail-fast:false}") boolean failFast) {
+        this.templateRegistry = templateRegistry;
+        this.consoleService = consoleService;
+        this.failFast = failFast;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (failFast) {
+            TemplateRegistry.TemplateStats stats = templateRegistry.warmUp();
+            if (stats.failed() > 0) {
+                throw new IllegalStateException("Templates failed to compile: " + stats.failures().keySet());
+            }
+            return;
+        }
+
+        Thread warmup = new Thread(() -> {
+            try {
+                report(templateRegistry.warmUp());
+            } catch (RuntimeException e) {
+                log.warn("Template warm-up failed", e);
+                consoleService.printError("Template warm-up failed: " + e.getMessage());
+            }
+        }, "template-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    private void report(TemplateRegistry.TemplateStats stats) {
+        if (stats.failed() == 0) {
+            return;
+        }
+        consoleService.printError(stats.failed() + " bundled template(s) failed to compile:");
+        stats.failures().forEach((name, error) -> consoleService.printError("  ✗ " + name + ": " + error));
+    }
+}
@@ -2,43 +2,105 @@ package com.springcli.infra.filesystem;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Enumeration;
+import java.util.Set;
 
 @Slf4j
 @Service
 public class FileSystemService {
 
-    public void extractZip(Path zipPath, Path targetDir) throws IOException {
-        log.info("Extracting {} to {}", zipPath, targetDir);
+    private static final Set<String> WRAPPER_SCRIPTS = Set.of("mvnw", "gradlew");
 
-        Files.createDirectories(targetDir);
+    public ProjectTree readZip(InputStream zipStream, String rootDir) throws IOException {
+        ProjectTree tree = new ProjectTree();
+        String prefix = rootDir + "/";
 
-        try (ZipFile zipFile = ZipFile.builder().setPath(zipPath).get()) {
-            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
-
-            while (entries.hasMoreElements()) {
-                ZipArchiveEntry entry = entries.nextElement();
-                Path entryPath = targetDir.resolve(entry.getName());
+        try (ZipArchiveInputStream zipIn = new ZipArchiveInputStream(CloseShieldInputStream.wrap(zipStream))) {
+            ZipArchiveEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                if (!entry.getName().startsWith(prefix) || entry.getName().equals(prefix)) {
+                    continue;
+                }
 
+                String path = entry.getName().substring(prefix.length());
                 if (entry.isDirectory()) {
-                    Files.createDirectories(entryPath);
+                    tree.addDirectory(path);
+                } else if (isWrapperScript(path)) {
+                    tree.putExecutable(path, zipIn.readAllBytes());
                 } else {
-                    Files.createDirectories(entryPath.getParent());
-                    try (InputStream in = zipFile.getInputStream(entry)) {
-                        Files.copy(in, entryPath, StandardCopyOption.REPLACE_EXISTING);
-                    }
+                    tree.put(path, zipIn.readAllBytes());
                 }
             }
         }
 
-        log.info("Extraction completed");
+        if (tree.size() == 0) {
+            throw new IOException("Could not find project root directory for: " + rootDir);
+        }
+        return tree;
+    }
+
+    private static Path resolveWithin(Path root, String name) throws IOException {
+        Path base = root.toAbsolutePath().normalize();
+        Path resolved = base.resolve(name).normalize();
+        if (!resolved.startsWith(base)) {
+            throw new IOException("Path escapes project root: " + name);
+        }
+        return resolved;
+    }
+
+    private boolean isWrapperScript(String path) {
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        return WRAPPER_SCRIPTS.contains(fileName);
+    }
+
+    public void writeTree(ProjectTree tree, Path projectRoot) throws IOException {
+        log.info("Writing {} files to {}", tree.size(), projectRoot);
+
+        if (Files.exists(projectRoot)) {
+            writeEntries(tree, projectRoot);
+            return;
+        }
+
+        Path parent = projectRoot.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path staging = Files.createDirectory(parent.resolve("." + projectRoot.getFileName() + ".staging-" + System.nanoTime()));
+
+        try {
+            writeEntries(tree, staging);
+            Files.move(staging, projectRoot, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(staging);
+            throw e;
+        }
+    }
+
+    private void writeEntries(ProjectTree tree, Path root) throws IOException {
+        for (String directory : tree.directories()) {
+            Files.createDirectories(resolveWithin(root, directory));
+        }
+
+        Path lastDirectory = null;
+        for (String path : tree.paths()) {
+            Path target = resolveWithin(root, path);
+            Path directory = target.getParent();
+            if (!directory.equals(lastDirectory)) {
+                Files.createDirectories(directory);
+                lastDirectory = directory;
+            }
+
+            Files.write(target, tree.bytes(path));
+
+            if (tree.isExecutable(path) && !target.toFile().setExecutable(true)) {
+                log.debug("Could not mark {} as executable", target);
+            }
+        }
     }
 
     public void createDirectories(Path... paths) throws IOException {
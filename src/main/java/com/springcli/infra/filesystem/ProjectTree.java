@@ -0,0 +1,122 @@
+package com.springcli.infra.filesystem;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class ProjectTree {
+
+    private static final int FILE_MODE = 0644;
+    private static final int EXECUTABLE_MODE = 0755;
+
+    private final NavigableMap<String, byte[]> files = new ConcurrentSkipListMap<>();
+    private final Set<String> executables = ConcurrentHashMap.newKeySet();
+    private final NavigableSet<String> directories = new ConcurrentSkipListSet<>();
+
+    public void put(String path, String content) {
+        put(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void put(String path, byte[] content) {
+        files.put(normalize(path), content);
+    }
+
+    public void putExecutable(String path, byte[] content) {
+        put(path, content);
+        executables.add(normalize(path));
+    }
+
+    public Writer openWriter(String path) {
+        String normalized = normalize(path);
+        return new OutputStreamWriter(new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                files.put(normalized, toByteArray());
+            }
+        }, StandardCharsets.UTF_8);
+    }
+
+    public void addDirectory(String path) {
+        directories.add(normalize(path));
+    }
+
+    public Optional<String> read(String path) {
+        return Optional.ofNullable(files.get(normalize(path)))
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    public byte[] bytes(String path) {
+        return files.get(normalize(path));
+    }
+
+    public boolean exists(String path) {
+        return files.containsKey(normalize(path));
+    }
+
+    public boolean hasDirectory(String path) {
+        String prefix = normalize(path) + "/";
+        String candidate = files.ceilingKey(prefix);
+        return directories.contains(normalize(path)) || (candidate != null && candidate.startsWith(prefix));
+    }
+
+    public boolean isExecutable(String path) {
+        return executables.contains(normalize(path));
+    }
+
+    public NavigableSet<String> paths() {
+        return Collections.unmodifiableNavigableSet(files.navigableKeySet());
+    }
+
+    public NavigableSet<String> directories() {
+        return Collections.unmodifiableNavigableSet(directories);
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public void writeZip(OutputStream out, String rootDir) throws IOException {
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(CloseShieldOutputStream.wrap(out))) {
+            for (String directory : directories) {
+                zipOut.putArchiveEntry(new ZipArchiveEntry(rootDir + "/" + directory + "/"));
+                zipOut.closeArchiveEntry();
+            }
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                ZipArchiveEntry entry = new ZipArchiveEntry(rootDir + "/" + file.getKey());
+                entry.setUnixMode(isExecutable(file.getKey()) ? EXECUTABLE_MODE : FILE_MODE);
+                entry.setSize(file.getValue().length);
+                zipOut.putArchiveEntry(entry);
+                zipOut.write(file.getValue());
+                zipOut.closeArchiveEntry();
+            }
+            zipOut.finish();
+        }
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        for (String segment : normalized.split("/")) {
+            if (segment.equals("..")) {
+                throw new IllegalArgumentException("Path escapes project root: " + path);
+            }
+        }
+        return normalized;
+    }
+}
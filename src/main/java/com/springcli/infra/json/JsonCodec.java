@@ -0,0 +1,108 @@
+package com.springcli.infra.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.springcli.model.GenerationEvent;
+import com.springcli.model.GenerationJob;
+import com.springcli.model.Preset;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.SpringMetadata;
+import com.springcli.model.UserConfig;
+import com.springcli.service.StarterCacheService;
+import com.springcli.service.UpdateCheckService;
+import com.springcli.web.dto.GenerationRequest;
+import com.springcli.web.dto.GenerationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class JsonCodec {
+
+    private static final List<Class<?>> PRECOMPILED_TYPES = List.of(
+            SpringMetadata.class,
+            Preset.class,
+            ProjectConfig.class,
+            UserConfig.class,
+            UpdateCheckService.CachedCheck.class,
+            StarterCacheService.CacheIndex.class,
+            GenerationRequest.class,
+            GenerationResponse.class,
+            GenerationJob.class,
+            GenerationEvent.class
+    );
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper yamlMapper;
+    private final ObjectWriter writer;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+
+    public JsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.yamlMapper = new ObjectMapper(new YAMLFactory());
+        this.writer = objectMapper.writer();
+
+        long start = System.nanoTime();
+        for (Class<?> type : PRECOMPILED_TYPES) {
+            reader(type);
+            writer(type);
+        }
+        log.debug("Prepared JSON codecs for {} types in {} ms", PRECOMPILED_TYPES.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public ObjectMapper mapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    public ObjectWriter prettyWriter(Class<?> type) {
+        return prettyWriters.computeIfAbsent(type, t -> writer(t).withDefaultPrettyPrinter());
+    }
+
+    public JsonNode readTree(Path file) throws IOException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        ObjectMapper mapper = fileName.endsWith(".yml") || fileName.endsWith(".yaml") ? yamlMapper : objectMapper;
+        return mapper.readTree(file.toFile());
+    }
+
+    public JsonNode readTree(String content) throws IOException {
+        return objectMapper.readTree(content);
+    }
+
+    public <T> T read(InputStream input, Class<T> type) throws IOException {
+        return reader(type).readValue(input);
+    }
+
+    public <T> T read(InputStream input, TypeReference<T> type) throws IOException {
+        return objectMapper.readerFor(type).readValue(input);
+    }
+
+    public byte[] write(Object value) throws IOException {
+        if (value == null) {
+            return writer.writeValueAsBytes(null);
+        }
+        ObjectWriter typed = writers.get(value.getClass());
+        return (typed != null ? typed : writer).writeValueAsBytes(value);
+    }
+}
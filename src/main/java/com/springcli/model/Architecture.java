@@ -20,20 +20,6 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("service", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     LAYERED(define("Layered Architecture")
@@ -52,20 +38,6 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("service", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     CLEAN(define("Clean Architecture")
@@ -85,20 +57,6 @@ public enum Architecture {
             .addFile("repository-impl", "entity/JpaEntity", "Entity.java")
             .addFile("repository-impl", "repository/JpaRepository", "JpaRepository.java")
             .addFile("repository-impl", "repository/RepositoryImpl", "RepositoryImpl.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     HEXAGONAL(define("Hexagonal (Ports & Adapters)")
@@ -118,20 +76,6 @@ public enum Architecture {
             .addFile("repository-impl", "repository/RepositoryImpl", "RepositoryImpl.java")
             .addFile("repository-impl", "entity/JpaEntity", "Entity.java")
             .addFile("repository-impl", "repository/JpaRepository", "JpaRepository.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     FEATURE_DRIVEN(define("Feature-Driven")
@@ -147,20 +91,6 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("service", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     DDD(define("Domain-Driven Design")
@@ -181,20 +111,6 @@ public enum Architecture {
             .addFile("repository-impl", "repository/RepositoryImpl", "RepositoryImpl.java")
             .addFile("repository-impl", "entity/JpaEntity", "Entity.java")
             .addFile("repository-impl", "repository/JpaRepository", "JpaRepository.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     CQRS(define("CQRS")
@@ -211,20 +127,6 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("service", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     EVENT_DRIVEN(define("Event-Driven")
@@ -240,20 +142,6 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("service", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     ONION(define("Onion Architecture")
@@ -269,20 +157,6 @@ public enum Architecture {
             .addFile("service", "service/Service", "Service.java")
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     ),
 
     VERTICAL_SLICE(define("Vertical Slice")
@@ -298,32 +172,21 @@ public enum Architecture {
             .addFile("repository", "repository/Repository", "Repository.java")
             .addFile("feature", "service/Service", "Service.java")
             .addFile("controller", "controller/Controller", "Controller.java")
-            .addFeatureFile("config", "config/SwaggerConfig", "SwaggerConfig.java", ProjectFeatures::enableSwagger)
-            .addFeatureFile("config", "config/CorsConfig", "CorsConfig.java", ProjectFeatures::enableCors)
-            .addFeatureFile("config", "config/GlobalExceptionHandler", "GlobalExceptionHandler.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("dto", "dto/ErrorResponse", "ErrorResponse.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/ResourceNotFoundException", "ResourceNotFoundException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("exception", "exception/BadRequestException", "BadRequestException.java", ProjectFeatures::enableExceptionHandler)
-            .addFeatureFile("security", "security/SecurityConfig", "SecurityConfig.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtService", "JwtService.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationFilter", "JwtAuthenticationFilter.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/JwtAuthenticationEntryPoint", "JwtAuthenticationEntryPoint.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("security", "security/UserDetailsServiceImpl", "UserDetailsServiceImpl.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("controller", "controller/AuthController", "AuthController.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/LoginRequest", "LoginRequest.java", ProjectFeatures::enableJwt)
-            .addFeatureFile("dto", "dto/AuthResponse", "AuthResponse.java", ProjectFeatures::enableJwt)
     );
 
+    private static final List<FeatureBlueprint> FEATURE_BLUEPRINTS = FeatureRegistry.all().stream()
+            .flatMap(feature -> feature.files().stream()
+                    .map(file -> new FeatureBlueprint(file.layer(), file.template(), file.filename(), new FeatureToggle(feature.mask()))))
+            .toList();
+
     private final String displayName;
     private final Map<String, String> layerMappings;
     private final List<ArchitectureBlueprint> blueprints;
-    private final List<FeatureBlueprint> featureBlueprints;
 
     Architecture(Builder builder) {
         this.displayName = builder.displayName;
         this.layerMappings = builder.mappings;
         this.blueprints = builder.blueprints;
-        this.featureBlueprints = builder.featureBlueprints;
     }
 
     public String getPathForLayer(String layer) {
@@ -339,16 +202,17 @@ public enum Architecture {
     }
 
     public List<FeatureBlueprint> getFeatureBlueprints() {
-        return featureBlueprints;
+        return FEATURE_BLUEPRINTS;
     }
 
     public String getDisplayName() { return displayName; }
 
     private static Builder define(String name) { return new Builder(name); }
 
-    @FunctionalInterface
-    public interface FeatureToggle {
-        boolean isEnabled(ProjectFeatures features);
+    public record FeatureToggle(long mask) {
+        public boolean isEnabled(ProjectFeatures features) {
+            return (features.bits() & mask) != 0;
+        }
     }
 
     public record FeatureBlueprint(
@@ -362,7 +226,6 @@ public enum Architecture {
         String displayName;
         Map<String, String> mappings = new HashMap<>();
         List<ArchitectureBlueprint> blueprints = new ArrayList<>();
-        List<FeatureBlueprint> featureBlueprints = new ArrayList<>();
 
         public Builder(String name) { this.displayName = name; }
 
@@ -375,10 +238,5 @@ public enum Architecture {
             this.blueprints.add(new ArchitectureBlueprint(layer, template, suffix));
             return this;
         }
-
-        public Builder addFeatureFile(String layer, String template, String filename, FeatureToggle toggle) {
-            this.featureBlueprints.add(new FeatureBlueprint(layer, template, filename, toggle));
-            return this;
-        }
     }
 }
\ No newline at end of file
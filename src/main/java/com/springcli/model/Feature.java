@@ -0,0 +1,24 @@
+package com.springcli.model;
+
+import java.util.List;
+
+public record Feature(
+        int bit,
+        String id,
+        String label,
+        String description,
+        String icon,
+        List<String> dependencyIds,
+        List<FeatureFile> files
+) {
+    public Feature {
+        dependencyIds = dependencyIds == null ? List.of() : List.copyOf(dependencyIds);
+        files = files == null ? List.of() : List.copyOf(files);
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    public record FeatureFile(String layer, String template, String filename) {}
+}
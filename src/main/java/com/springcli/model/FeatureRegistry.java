@@ -0,0 +1,73 @@
+package com.springcli.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+public final class FeatureRegistry {
+
+    private static final String FEATURES_RESOURCE = "features.json";
+
+    private static final List<Feature> FEATURES = load();
+    private static final Map<String, Feature> BY_ID = index(FEATURES);
+    private static final long ALL_MASK = FEATURES.stream().mapToLong(Feature::mask).reduce(0L, (a, b) -> a | b);
+
+    public static final Feature JWT = require("enableJwt");
+    public static final Feature SWAGGER = require("enableSwagger");
+    public static final Feature CORS = require("enableCors");
+    public static final Feature EXCEPTION_HANDLER = require("enableExceptionHandler");
+    public static final Feature MAPSTRUCT = require("enableMapStruct");
+    public static final Feature DOCKER = require("enableDocker");
+    public static final Feature KUBERNETES = require("enableKubernetes");
+    public static final Feature CI_CD = require("enableCiCd");
+    public static final Feature AUDIT = require("enableAudit");
+
+    private FeatureRegistry() {
+    }
+
+    public static List<Feature> all() {
+        return FEATURES;
+    }
+
+    public static Optional<Feature> find(String id) {
+        return Optional.ofNullable(id == null ? null : BY_ID.get(id));
+    }
+
+    public static long allMask() {
+        return ALL_MASK;
+    }
+
+    private static List<Feature> load() {
+        try (InputStream input = new ClassPathResource(FEATURES_RESOURCE).getInputStream()) {
+            Feature[] features = new ObjectMapper().readValue(input, Feature[].class);
+            return Arrays.stream(features).sorted(Comparator.comparingInt(Feature::bit)).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load " + FEATURES_RESOURCE, e);
+        }
+    }
+
+    private static Map<String, Feature> index(List<Feature> features) {
+        Map<String, Feature> byId = new HashMap<>();
+        long seenBits = 0L;
+        for (Feature feature : features) {
+            if (feature.bit() < 0 || feature.bit() >= Long.SIZE) {
+                throw new IllegalStateException("Feature " + feature.id() + " has bit " + feature.bit() + " outside 0-63");
+            }
+            if ((seenBits & feature.mask()) != 0) {
+                throw new IllegalStateException("Feature " + feature.id() + " reuses bit " + feature.bit());
+            }
+            if (byId.putIfAbsent(feature.id(), feature) != null) {
+                throw new IllegalStateException("Feature declared twice: " + feature.id());
+            }
+            seenBits |= feature.mask();
+        }
+        return Map.copyOf(byId);
+    }
+
+    private static Feature require(String id) {
+        return find(id).orElseThrow(() -> new IllegalStateException("Feature " + id + " missing from " + FEATURES_RESOURCE));
+    }
+}
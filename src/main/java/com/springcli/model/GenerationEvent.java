@@ -0,0 +1,20 @@
+package com.springcli.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record GenerationEvent(
+        GenerationStage stage,
+        int files,
+        long durationMillis,
+        String detail
+) {
+
+    public static GenerationEvent of(GenerationStage stage, int files, long startedNanos, String detail) {
+        return new GenerationEvent(stage, files, (System.nanoTime() - startedNanos) / 1_000_000, detail);
+    }
+
+    @JsonProperty("label")
+    public String label() {
+        return stage.getDisplayName();
+    }
+}
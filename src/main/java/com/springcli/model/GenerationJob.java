@@ -0,0 +1,57 @@
+package com.springcli.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record GenerationJob(
+        String id,
+        Status status,
+        String message,
+        String projectPath,
+        long submittedAt,
+        Long startedAt,
+        Long finishedAt,
+        List<GenerationEvent> stages
+) {
+
+    public GenerationJob {
+        stages = stages == null ? List.of() : List.copyOf(stages);
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    public static GenerationJob queued(String id, String projectPath) {
+        return new GenerationJob(id, Status.QUEUED, "Waiting for a free generation slot", projectPath,
+                System.currentTimeMillis(), null, null, List.of());
+    }
+
+    public GenerationJob running() {
+        return new GenerationJob(id, Status.RUNNING, "Generating project", projectPath,
+                submittedAt, System.currentTimeMillis(), null, stages);
+    }
+
+    public GenerationJob succeeded() {
+        return new GenerationJob(id, Status.SUCCEEDED, "Project generated successfully at: " + projectPath,
+                projectPath, submittedAt, startedAt, System.currentTimeMillis(), stages);
+    }
+
+    public GenerationJob failed(String reason) {
+        return new GenerationJob(id, Status.FAILED, "Failed to generate project: " + reason,
+                projectPath, submittedAt, startedAt, System.currentTimeMillis(), stages);
+    }
+
+    public GenerationJob withStage(GenerationEvent event) {
+        List<GenerationEvent> updated = new ArrayList<>(stages);
+        updated.add(event);
+        return new GenerationJob(id, status, event.label() + " done", projectPath, submittedAt, startedAt, finishedAt, updated);
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+}
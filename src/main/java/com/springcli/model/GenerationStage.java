@@ -0,0 +1,20 @@
+package com.springcli.model;
+
+public enum GenerationStage {
+    DOWNLOAD("Downloading starter"),
+    EXTRACT("Extracting starter"),
+    RENDER("Rendering files"),
+    BUILD_FILE("Rewriting build file"),
+    OPS("Writing ops files"),
+    WRITE("Writing project to disk");
+
+    private final String displayName;
+
+    GenerationStage(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
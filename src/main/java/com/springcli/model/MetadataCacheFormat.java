@@ -0,0 +1,16 @@
+package com.springcli.model;
+
+public enum MetadataCacheFormat {
+    JSON("metadata-cache.json"),
+    BINARY("metadata-cache.bin");
+
+    private final String fileName;
+
+    MetadataCacheFormat(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+}
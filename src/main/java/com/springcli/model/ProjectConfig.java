@@ -2,6 +2,7 @@ package com.springcli.model;
 
 import lombok.Builder;
 
+import java.util.List;
 import java.util.Set;
 
 @Builder
@@ -19,7 +20,8 @@ public record ProjectConfig(
         String springBootVersion,
         Set<String> dependencies,
         ProjectFeatures features,
-        String outputDirectory
+        String outputDirectory,
+        List<String> entities
 ) {
     public ProjectConfig {
         if (groupId == null || groupId.isBlank()) throw new IllegalArgumentException("groupId cannot be empty");
@@ -27,5 +29,8 @@ public record ProjectConfig(
         if (packageName == null || packageName.isBlank()) packageName = groupId + "." + artifactId.replace("-", "");
         if (name == null || name.isBlank()) name = artifactId;
         if (description == null) description = "Spring Boot Application";
+        if (dependencies == null) dependencies = Set.of();
+        if (features == null) features = ProjectFeatures.defaults();
+        if (entities == null || entities.isEmpty()) entities = List.of("Demo");
     }
 }
\ No newline at end of file
@@ -1,21 +1,114 @@
 package com.springcli.model;
 
-public record ProjectFeatures(
-    boolean enableJwt,
-    boolean enableSwagger,
-    boolean enableCors,
-    boolean enableExceptionHandler,
-    boolean enableMapStruct,
-    boolean enableDocker,
-    boolean enableKubernetes,
-    boolean enableCiCd,
-    boolean enableAudit
-) {
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record ProjectFeatures(long bits) {
+
+    public ProjectFeatures(
+        boolean enableJwt,
+        boolean enableSwagger,
+        boolean enableCors,
+        boolean enableExceptionHandler,
+        boolean enableMapStruct,
+        boolean enableDocker,
+        boolean enableKubernetes,
+        boolean enableCiCd,
+        boolean enableAudit
+    ) {
+        this(defaults()
+            .with(FeatureRegistry.JWT, enableJwt)
+            .with(FeatureRegistry.SWAGGER, enableSwagger)
+            .with(FeatureRegistry.CORS, enableCors)
+            .with(FeatureRegistry.EXCEPTION_HANDLER, enableExceptionHandler)
+            .with(FeatureRegistry.MAPSTRUCT, enableMapStruct)
+            .with(FeatureRegistry.DOCKER, enableDocker)
+            .with(FeatureRegistry.KUBERNETES, enableKubernetes)
+            .with(FeatureRegistry.CI_CD, enableCiCd)
+            .with(FeatureRegistry.AUDIT, enableAudit)
+            .bits());
+    }
+
     public static ProjectFeatures defaults() {
-        return new ProjectFeatures(false, false, false, false, false, false, false, false, false);
+        return new ProjectFeatures(0L);
     }
 
     public static ProjectFeatures all() {
-        return new ProjectFeatures(true, true, true, true, true, true, true, true, true);
+        return new ProjectFeatures(FeatureRegistry.allMask());
+    }
+
+    public static ProjectFeatures of(Feature... features) {
+        long bits = 0L;
+        for (Feature feature : features) {
+            bits |= feature.mask();
+        }
+        return new ProjectFeatures(bits);
+    }
+
+    @JsonCreator
+    public static ProjectFeatures fromMap(Map<String, ?> values) {
+        long bits = 0L;
+        if (values != null) {
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                if (Boolean.TRUE.equals(entry.getValue()) || "true".equals(entry.getValue())) {
+                    bits |= FeatureRegistry.find(entry.getKey()).map(Feature::mask).orElse(0L);
+                }
+            }
+        }
+        return new ProjectFeatures(bits);
+    }
+
+    public boolean enabled(Feature feature) {
+        return (bits & feature.mask()) != 0;
+    }
+
+    public boolean enabled(String featureId) {
+        return FeatureRegistry.find(featureId).map(this::enabled).orElse(false);
+    }
+
+    public ProjectFeatures with(Feature feature, boolean enabled) {
+        return new ProjectFeatures(enabled ? bits | feature.mask() : bits & ~feature.mask());
+    }
+
+    public boolean enableJwt() { return enabled(FeatureRegistry.JWT); }
+
+    public boolean enableSwagger() { return enabled(FeatureRegistry.SWAGGER); }
+
+    public boolean enableCors() { return enabled(FeatureRegistry.CORS); }
+
+    public boolean enableExceptionHandler() { return enabled(FeatureRegistry.EXCEPTION_HANDLER); }
+
+    public boolean enableMapStruct() { return enabled(FeatureRegistry.MAPSTRUCT); }
+
+    public boolean enableDocker() { return enabled(FeatureRegistry.DOCKER); }
+
+    public boolean enableKubernetes() { return enabled(FeatureRegistry.KUBERNETES); }
+
+    public boolean enableCiCd() { return enabled(FeatureRegistry.CI_CD); }
+
+    public boolean enableAudit() { return enabled(FeatureRegistry.AUDIT); }
+
+    @JsonValue
+    public Map<String, Object> asMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Feature feature : FeatureRegistry.all()) {
+            values.put(feature.id(), enabled(feature));
+        }
+        return values;
+    }
+
+    public List<String> dependencyIds() {
+        List<String> dependencyIds = new ArrayList<>();
+        for (Feature feature : FeatureRegistry.all()) {
+            if (enabled(feature)) {
+                dependencyIds.addAll(feature.dependencyIds());
+            }
+        }
+        return dependencyIds;
     }
 }
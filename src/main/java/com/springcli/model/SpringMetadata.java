@@ -15,7 +15,9 @@ public record SpringMetadata(
         List<String> languages,
         String defaultLanguage,
         Map<String, DependencyGroup> dependencyGroups,
-        long cachedAt
+        long cachedAt,
+        String etag,
+        String lastModified
 ) {
     public SpringMetadata {
         if (springBootVersions == null) springBootVersions = new ArrayList<>();
@@ -26,6 +28,11 @@ public record SpringMetadata(
         if (dependencyGroups == null) dependencyGroups = new HashMap<>();
     }
 
+    public SpringMetadata withCachedAt(long cachedAt) {
+        return new SpringMetadata(defaultSpringBootVersion, springBootVersions, javaVersions, packagingTypes, buildTools,
+                defaultBuildTool, languages, defaultLanguage, dependencyGroups, cachedAt, etag, lastModified);
+    }
+
     public boolean isExpired(long maxAgeMillis) {
         return System.currentTimeMillis() - cachedAt > maxAgeMillis;
     }
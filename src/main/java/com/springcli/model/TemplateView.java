@@ -0,0 +1,70 @@
+package com.springcli.model;
+
+import java.util.*;
+
+public final class TemplateView extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> base;
+    private final Map<String, Object> overlay;
+
+    private TemplateView(Map<String, Object> base, Map<String, Object> overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    public static TemplateView of(TemplateContext context) {
+        Map<String, Object> values = new HashMap<>();
+
+        if (context != null) {
+            putIfPresent(values, "packageName", context.packageName());
+            putIfPresent(values, "basePackage", context.basePackage());
+            putIfPresent(values, "projectName", context.projectName());
+            putIfPresent(values, "entityName", context.entityName());
+            putIfPresent(values, "architecture", context.architecture());
+            putIfPresent(values, "javaVersion", context.javaVersion());
+            putIfPresent(values, "buildTool", context.buildTool());
+
+            if (context.features() != null) {
+                Map<String, Object> features = context.features().asMap();
+                values.put("features", features);
+                values.putAll(features);
+            }
+
+            values.putAll(context.additionalProperties());
+        }
+
+        return new TemplateView(Collections.unmodifiableMap(values), Map.of());
+    }
+
+    public TemplateView with(String key, Object value) {
+        Map<String, Object> next = new HashMap<>(overlay);
+        next.put(key, value);
+        return new TemplateView(base, Collections.unmodifiableMap(next));
+    }
+
+    @Override
+    public Object get(Object key) {
+        return overlay.containsKey(key) ? overlay.get(key) : base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overlay.containsKey(key) || base.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (overlay.isEmpty()) {
+            return base.entrySet();
+        }
+        Map<String, Object> merged = new HashMap<>(base);
+        merged.putAll(overlay);
+        return Collections.unmodifiableSet(merged.entrySet());
+    }
+
+    private static void putIfPresent(Map<String, Object> values, String key, Object value) {
+        if (value != null) {
+            values.put(key, value);
+        }
+    }
+}
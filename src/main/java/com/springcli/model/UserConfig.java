@@ -10,8 +10,13 @@ public record UserConfig(
         String preferredIde,
         boolean useApplicationYml,
         boolean generateReadme,
-        boolean generateGitignore
+        boolean generateGitignore,
+        MetadataCacheFormat metadataCacheFormat
 ) {
+    public UserConfig {
+        if (metadataCacheFormat == null) metadataCacheFormat = MetadataCacheFormat.JSON;
+    }
+
     public static UserConfig defaults() {
         return new UserConfig(
                 "com.example",
@@ -23,7 +28,8 @@ public record UserConfig(
                 "idea",
                 true,
                 true,
-                true
+                true,
+                MetadataCacheFormat.JSON
         );
     }
 }
\ No newline at end of file
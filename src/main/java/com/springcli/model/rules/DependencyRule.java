@@ -1,14 +1,22 @@
 package com.springcli.model.rules;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
 
 public record DependencyRule(
     String id,
     String category,
     int priority,
+    List<String> requires,
+    List<String> implies,
+    List<String> conflicts,
     BuildConfig build,
     RuntimeConfig runtime,
     InfrastructureConfig infrastructure,
     ScaffoldingConfig scaffolding
 ) {
+    public DependencyRule {
+        requires = requires == null ? List.of() : List.copyOf(requires);
+        implies = implies == null ? List.of() : List.copyOf(implies);
+        conflicts = conflicts == null ? List.of() : List.copyOf(conflicts);
+    }
 }
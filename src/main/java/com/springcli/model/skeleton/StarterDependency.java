@@ -0,0 +1,41 @@
+package com.springcli.model.skeleton;
+
+import java.util.List;
+
+public record StarterDependency(
+    String groupId,
+    String artifactId,
+    String scope
+) {
+    public static final List<String> SCOPE_ORDER = List.of("compile", "development", "runtime", "annotationProcessor", "test");
+
+    public String coordinates() {
+        return groupId + ":" + artifactId;
+    }
+
+    public boolean starter() {
+        return "compile".equals(scope) && artifactId.startsWith("spring-boot-starter");
+    }
+
+    public boolean optional() {
+        return "annotationProcessor".equals(scope) || "development".equals(scope);
+    }
+
+    public String mavenScope() {
+        return switch (scope) {
+            case "runtime", "development" -> "runtime";
+            case "test" -> "test";
+            default -> null;
+        };
+    }
+
+    public List<String> gradleConfigurations() {
+        return switch (scope) {
+            case "runtime" -> List.of("runtimeOnly");
+            case "test" -> List.of("testImplementation");
+            case "annotationProcessor" -> List.of("compileOnly", "annotationProcessor");
+            case "development" -> List.of("developmentOnly");
+            default -> List.of("implementation");
+        };
+    }
+}
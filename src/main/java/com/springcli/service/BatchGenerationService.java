@@ -0,0 +1,163 @@
+package com.springcli.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.UserConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchGenerationService {
+
+    private final ProjectGeneratorService generatorService;
+    private final MetadataService metadataService;
+    private final ConfigService configService;
+    private final ProjectValidator projectValidator;
+    private final JsonCodec jsonCodec;
+
+    public List<ProjectConfig> loadManifest(Path manifest) {
+        try {
+            JsonNode root = jsonCodec.readTree(manifest);
+
+            JsonNode projects = root != null && root.isObject() ? root.get("projects") : root;
+            if (projects == null || !projects.isArray() || projects.isEmpty()) {
+                throw new IllegalArgumentException("Manifest must be a list of projects or contain a 'projects' list");
+            }
+
+            ObjectNode defaults = userDefaults();
+            if (root.isObject() && root.get("defaults") instanceof ObjectNode manifestDefaults) {
+                defaults.setAll(manifestDefaults);
+            }
+
+            List<ProjectConfig> configs = new ArrayList<>();
+            String bootVersion = null;
+            for (int i = 0; i < projects.size(); i++) {
+                if (!(projects.get(i) instanceof ObjectNode project)) {
+                    throw new IllegalArgumentException("Manifest entry " + (i + 1) + " is not an object");
+                }
+                ObjectNode merged = defaults.deepCopy();
+                merged.setAll(project);
+                if (!merged.hasNonNull("springBootVersion")) {
+                    bootVersion = bootVersion != null ? bootVersion : defaultSpringBootVersion();
+                    merged.put("springBootVersion", bootVersion);
+                }
+                configs.add(jsonCodec.reader(ProjectConfig.class).readValue(merged));
+            }
+
+            log.info("Loaded {} projects from manifest {}", configs.size(), manifest);
+            return configs;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read manifest: " + manifest, e);
+        }
+    }
+
+    public List<BatchResult> generateAll(List<ProjectConfig> configs, int parallelism) {
+        BatchResult[] results = new BatchResult[configs.size()];
+        Map<Integer, ProjectConfig> accepted = new LinkedHashMap<>();
+        Set<Path> seen = new HashSet<>();
+
+        for (int i = 0; i < configs.size(); i++) {
+            ProjectConfig config = configs.get(i);
+            Path projectRoot = projectRoot(config);
+            ProjectValidator.ValidationResult validation = projectValidator.validateArtifactId(config.artifactId(), config.outputDirectory());
+
+            if (!seen.add(projectRoot)) {
+                results[i] = new BatchResult(config.artifactId(), projectRoot, 0, "Duplicate project in manifest");
+            } else if (!validation.valid()) {
+                results[i] = new BatchResult(config.artifactId(), projectRoot, 0, validation.errorMessage());
+            } else {
+                accepted.put(i, config);
+            }
+        }
+
+        int workers = Math.max(1, Math.min(parallelism, accepted.size()));
+        ExecutorService batchExecutor = Executors.newFixedThreadPool(workers, batchThreadFactory());
+
+        try {
+            Map<Integer, Future<BatchResult>> futures = new LinkedHashMap<>();
+            accepted.forEach((index, config) -> futures.put(index, batchExecutor.submit(() -> generateOne(config))));
+
+            for (Map.Entry<Integer, Future<BatchResult>> future : futures.entrySet()) {
+                results[future.getKey()] = future.getValue().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Batch generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Batch generation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            batchExecutor.shutdownNow();
+        }
+
+        return List.of(results);
+    }
+
+    private BatchResult generateOne(ProjectConfig config) {
+        long start = System.nanoTime();
+        try {
+            generatorService.generateProject(config);
+            return new BatchResult(config.artifactId(), projectRoot(config), elapsedMs(start), null);
+        } catch (RuntimeException e) {
+            log.error("Batch generation failed for {}", config.artifactId(), e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new BatchResult(config.artifactId(), projectRoot(config), elapsedMs(start), error);
+        }
+    }
+
+    private ObjectNode userDefaults() {
+        UserConfig userConfig = configService.loadConfig();
+
+        ObjectNode defaults = jsonCodec.mapper().createObjectNode();
+        defaults.put("groupId", userConfig.defaultGroupId());
+        defaults.put("javaVersion", userConfig.defaultJavaVersion());
+        defaults.put("packaging", userConfig.defaultPackaging());
+        defaults.put("architecture", userConfig.defaultArchitecture().name());
+        defaults.put("outputDirectory", userConfig.defaultOutputDir());
+        defaults.put("language", "java");
+        defaults.put("buildTool", "maven-project");
+        return defaults;
+    }
+
+    private String defaultSpringBootVersion() {
+        try {
+            return metadataService.getMetadata().defaultSpringBootVersion();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Could not resolve a default Spring Boot version; set springBootVersion in the manifest", e);
+        }
+    }
+
+    private Path projectRoot(ProjectConfig config) {
+        return Paths.get(config.outputDirectory()).resolve(config.artifactId()).toAbsolutePath().normalize();
+    }
+
+    private long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private ThreadFactory batchThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "spring-cli-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public record BatchResult(String artifactId, Path projectRoot, long durationMs, String error) {
+        public boolean success() {
+            return error == null;
+        }
+    }
+}
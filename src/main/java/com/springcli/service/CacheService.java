@@ -1,14 +1,21 @@
 package com.springcli.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.MetadataCacheFormat;
 import com.springcli.model.SpringMetadata;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 @Slf4j
@@ -16,52 +23,112 @@ import java.util.Optional;
 public class CacheService {
 
     private static final String CACHE_DIR = System.getProperty("user.home") + "/.spring-cli";
-    private static final String CACHE_FILE = "metadata-cache.json";
-    private static final long CACHE_EXPIRY_MS = 24 * 60 * 60 * 1000;
+    static final long CACHE_EXPIRY_MS = 24 * 60 * 60 * 1000;
 
-    private final ObjectMapper objectMapper;
-    private final Path cacheFilePath;
+    private final JsonCodec jsonCodec;
+    private final Path cacheDir;
 
-    public CacheService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-        this.cacheFilePath = Paths.get(CACHE_DIR, CACHE_FILE);
+    private volatile MetadataCacheFormat format;
+    private volatile Path cacheFilePath;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public CacheService(JsonCodec jsonCodec, ConfigService configService) {
+        this(jsonCodec, Paths.get(CACHE_DIR), configService.loadConfig().metadataCacheFormat());
+    }
+
+    CacheService(JsonCodec jsonCodec, Path cacheDir, MetadataCacheFormat format) {
+        this.jsonCodec = jsonCodec;
+        this.cacheDir = cacheDir;
+        this.format = format;
+        this.cacheFilePath = cacheDir.resolve(format.fileName());
         ensureCacheDirectoryExists();
+        deleteOtherFormats(format);
+    }
+
+    public synchronized void useFormat(MetadataCacheFormat newFormat) {
+        if (newFormat == format) {
+            return;
+        }
+
+        Optional<SpringMetadata> current = getCachedMetadata();
+        format = newFormat;
+        cacheFilePath = cacheDir.resolve(newFormat.fileName());
+        snapshot = null;
+        current.ifPresent(this::cacheMetadata);
+        deleteOtherFormats(newFormat);
+        log.info("Metadata cache switched to {}", newFormat);
     }
 
     public Optional<SpringMetadata> getCachedMetadata() {
-        if (!Files.exists(cacheFilePath)) {
+        MetadataCacheFormat format = this.format;
+        Path cacheFilePath = this.cacheFilePath;
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(cacheFilePath, BasicFileAttributes.class);
+        } catch (IOException e) {
             log.debug("Cache file does not exist");
+            snapshot = null;
             return Optional.empty();
         }
 
-        try {
-            SpringMetadata metadata = objectMapper.readValue(cacheFilePath.toFile(), SpringMetadata.class);
-
-            if (metadata.isExpired(CACHE_EXPIRY_MS)) {
-                log.info("Cache expired, will fetch fresh metadata");
-                return Optional.empty();
-            }
+        Snapshot current = snapshot;
+        if (current != null && current.matches(attributes)) {
+            return Optional.of(current.metadata());
+        }
 
-            log.info("Using cached metadata");
+        try {
+            long start = System.nanoTime();
+            SpringMetadata metadata = readCacheFile(format, cacheFilePath);
+            snapshot = new Snapshot(metadata, attributes.lastModifiedTime(), attributes.size());
+            log.debug("Loaded {} metadata cache in {} µs", format, (System.nanoTime() - start) / 1_000);
             return Optional.of(metadata);
-
         } catch (IOException e) {
             log.warn("Failed to read cache file, will fetch fresh metadata", e);
             return Optional.empty();
         }
     }
 
+    public byte[] toJson(SpringMetadata metadata) {
+        Snapshot current = snapshot;
+        if (current == null || current.metadata() != metadata) {
+            return serialize(metadata);
+        }
+        if (current.json == null) {
+            current.json = serialize(metadata);
+        }
+        return current.json;
+    }
+
+    public boolean isExpired(SpringMetadata metadata) {
+        return metadata.isExpired(CACHE_EXPIRY_MS);
+    }
+
     public void cacheMetadata(SpringMetadata metadata) {
+        MetadataCacheFormat format = this.format;
+        Path cacheFilePath = this.cacheFilePath;
+        Path tempFile = null;
         try {
-            objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(cacheFilePath.toFile(), metadata);
+            tempFile = Files.createTempFile(cacheFilePath.getParent(), format.fileName(), ".tmp");
+            if (format == MetadataCacheFormat.BINARY) {
+                Files.write(tempFile, MetadataBinaryCodec.encode(metadata));
+            } else {
+                jsonCodec.prettyWriter(SpringMetadata.class).writeValue(tempFile.toFile(), metadata);
+            }
+            moveIntoPlace(tempFile, cacheFilePath);
+
+            BasicFileAttributes attributes = Files.readAttributes(cacheFilePath, BasicFileAttributes.class);
+            snapshot = new Snapshot(metadata, attributes.lastModifiedTime(), attributes.size());
             log.info("Metadata cached successfully");
         } catch (IOException e) {
             log.warn("Failed to cache metadata", e);
+            deleteQuietly(tempFile);
         }
     }
 
     public void clearCache() {
+        snapshot = null;
         try {
             if (Files.exists(cacheFilePath)) {
                 Files.delete(cacheFilePath);
@@ -72,9 +139,50 @@ public class CacheService {
         }
     }
 
+    private SpringMetadata readCacheFile(MetadataCacheFormat format, Path cacheFilePath) throws IOException {
+        if (format == MetadataCacheFormat.JSON) {
+            return jsonCodec.reader(SpringMetadata.class).readValue(cacheFilePath.toFile());
+        }
+        return MetadataBinaryCodec.decode(ByteBuffer.wrap(Files.readAllBytes(cacheFilePath)));
+    }
+
+    private byte[] serialize(SpringMetadata metadata) {
+        try {
+            return jsonCodec.write(metadata);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize metadata", e);
+        }
+    }
+
+    private void moveIntoPlace(Path tempFile, Path cacheFilePath) throws IOException {
+        try {
+            Files.move(tempFile, cacheFilePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, cacheFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteOtherFormats(MetadataCacheFormat keep) {
+        for (MetadataCacheFormat other : MetadataCacheFormat.values()) {
+            if (other != keep) {
+                deleteQuietly(cacheDir.resolve(other.fileName()));
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete cache file {}", file, e);
+        }
+    }
+
     private void ensureCacheDirectoryExists() {
         try {
-            Path cacheDir = Paths.get(CACHE_DIR);
             if (!Files.exists(cacheDir)) {
                 Files.createDirectories(cacheDir);
             }
@@ -82,4 +190,25 @@ public class CacheService {
             log.error("Failed to create cache directory", e);
         }
     }
+
+    private static final class Snapshot {
+        private final SpringMetadata metadata;
+        private final FileTime modifiedAt;
+        private final long size;
+        private volatile byte[] json;
+
+        Snapshot(SpringMetadata metadata, FileTime modifiedAt, long size) {
+            this.metadata = metadata;
+            this.modifiedAt = modifiedAt;
+            this.size = size;
+        }
+
+        SpringMetadata metadata() {
+            return metadata;
+        }
+
+        boolean matches(BasicFileAttributes attributes) {
+            return modifiedAt.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
 }
@@ -1,6 +1,6 @@
 package com.springcli.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
 import com.springcli.model.UserConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,11 +16,11 @@ public class ConfigService {
 
     private static final String CONFIG_FILE = System.getProperty("user.home") + "/.springclirc.json";
 
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
     private final Path configFilePath;
 
-    public ConfigService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public ConfigService(JsonCodec jsonCodec) {
+        this.jsonCodec = jsonCodec;
         this.configFilePath = Paths.get(CONFIG_FILE);
     }
 
@@ -36,7 +36,7 @@ public class ConfigService {
                 return UserConfig.defaults();
             }
 
-            return objectMapper.readValue(configFilePath.toFile(), UserConfig.class);
+            return jsonCodec.reader(UserConfig.class).readValue(configFilePath.toFile());
         } catch (IOException e) {
             log.warn("Failed to read config file, using defaults: {}", e.getMessage());
             return UserConfig.defaults();
@@ -45,7 +45,7 @@ public class ConfigService {
 
     public void saveConfig(UserConfig config) {
         try {
-            objectMapper.writerWithDefaultPrettyPrinter()
+            jsonCodec.prettyWriter(UserConfig.class)
                     .writeValue(configFilePath.toFile(), config);
             log.info("Configuration saved successfully");
         } catch (IOException e) {
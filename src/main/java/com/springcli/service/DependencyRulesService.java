@@ -1,60 +1,72 @@
 package com.springcli.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
 import com.springcli.model.rules.DependencyRule;
+import com.springcli.service.config.DependencyGraph;
+import com.springcli.service.config.DependencyPlan;
+import com.springcli.service.config.DependencyRuleIndex;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RegisterReflectionForBinding(DependencyRule.class)
 public class DependencyRulesService {
 
-    private final Map<String, DependencyRule> rulesCache;
-    private final ObjectMapper objectMapper;
+    private static final String RULES_RESOURCE = "dependency-rules.json";
 
-    public DependencyRulesService() {
-        this.objectMapper = new ObjectMapper();
-        this.rulesCache = loadRules();
+    private final DependencyRuleIndex index;
+    private final DependencyGraph graph;
+
+    public DependencyRulesService(JsonCodec jsonCodec) {
+        this.index = loadIndex(jsonCodec);
+        this.graph = DependencyGraph.compile(index);
     }
 
-    private Map<String, DependencyRule> loadRules() {
-        try {
-            ClassPathResource resource = new ClassPathResource("dependency-rules.json");
-            List<DependencyRule> rules = objectMapper.readValue(
-                resource.getInputStream(),
-                new TypeReference<>() {}
-            );
+    private DependencyRuleIndex loadIndex(JsonCodec jsonCodec) {
+        long start = System.nanoTime();
+        try (InputStream input = new ClassPathResource(RULES_RESOURCE).getInputStream()) {
+            List<DependencyRule> rules = jsonCodec.read(input, new TypeReference<>() {});
+            DependencyRuleIndex compiled = DependencyRuleIndex.compile(rules);
 
-            return rules.stream()
-                .collect(Collectors.toMap(DependencyRule::id, rule -> rule));
+            log.debug("Compiled {} dependency rules in {} ms", compiled.size(), (System.nanoTime() - start) / 1_000_000);
+            return compiled;
         } catch (IOException e) {
-            throw new RuntimeException("Failed to load dependency-rules.json", e);
+            throw new RuntimeException("Failed to load " + RULES_RESOURCE, e);
         }
     }
 
+    public DependencyRuleIndex index() {
+        return index;
+    }
+
     public Optional<DependencyRule> getRule(String dependencyId) {
-        return Optional.ofNullable(rulesCache.get(dependencyId));
+        return index.find(dependencyId);
     }
 
-    public List<DependencyRule> getRules(List<String> dependencyIds) {
-        return dependencyIds.stream()
-            .map(this::getRule)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .sorted(Comparator.comparingInt(DependencyRule::priority).reversed())
-            .collect(Collectors.toList());
+    public List<DependencyRule> getRules(Collection<String> dependencyIds) {
+        return index.rules(index.select(dependencyIds));
+    }
+
+    public DependencyPlan resolve(Collection<String> dependencyIds) {
+        return graph.resolve(dependencyIds);
     }
 
     public List<DependencyRule> getAllRules() {
-        return new ArrayList<>(rulesCache.values());
+        return index.all();
+    }
+
+    public List<DependencyRule> getRulesByCategory(String category) {
+        return index.byCategory(category);
     }
 
     public boolean hasRule(String dependencyId) {
-        return rulesCache.containsKey(dependencyId);
+        return index.ordinal(dependencyId) >= 0;
     }
 }
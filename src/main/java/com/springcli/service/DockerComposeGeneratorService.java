@@ -18,7 +18,7 @@ public class DockerComposeGeneratorService {
     private final DependencyConfigurationRegistry configRegistry;
 
     public String generateDockerCompose(Set<String> dependencies) {
-        List<DependencyRule> rules = configRegistry.getRules(new ArrayList<>(dependencies));
+        List<DependencyRule> rules = configRegistry.resolve(dependencies).rules();
 
         List<DockerComposeConfig> services = rules.stream()
             .filter(rule -> rule.infrastructure() != null)
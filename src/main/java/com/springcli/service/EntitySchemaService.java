@@ -0,0 +1,120 @@
+package com.springcli.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springcli.infra.json.JsonCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntitySchemaService {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "create\\s+table\\s+(?:if\\s+not\\s+exists\\s+)?(?:[`\"\\[]?\\w+[`\"\\]]?\\.)?[`\"\\[]?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final JsonCodec jsonCodec;
+
+    public List<String> resolveEntities(String input) {
+        if (input == null || input.isBlank()) {
+            return List.of("Demo");
+        }
+
+        Path schemaFile = Paths.get(input.trim());
+        if (Files.isRegularFile(schemaFile)) {
+            return loadEntities(schemaFile);
+        }
+
+        return normalize(Arrays.asList(input.split(",")));
+    }
+
+    public List<String> loadEntities(Path schemaFile) {
+        String fileName = schemaFile.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        try {
+            List<String> entities;
+            if (fileName.endsWith(".sql") || fileName.endsWith(".ddl")) {
+                entities = parseDdl(Files.readString(schemaFile));
+            } else {
+                entities = readEntities(jsonCodec.readTree(schemaFile));
+            }
+
+            log.info("Loaded {} entities from {}", entities.size(), schemaFile);
+            return normalize(entities);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read entity schema: " + schemaFile, e);
+        }
+    }
+
+    static List<String> parseDdl(String ddl) {
+        List<String> tables = new ArrayList<>();
+        Matcher matcher = CREATE_TABLE.matcher(ddl);
+        while (matcher.find()) {
+            tables.add(singularize(matcher.group(1)));
+        }
+        return tables;
+    }
+
+    private List<String> readEntities(JsonNode root) {
+        JsonNode entities = root != null && root.isObject() ? root.get("entities") : root;
+        if (entities == null || !entities.isArray()) {
+            throw new IllegalArgumentException("Entity schema must be a list or contain an 'entities' list");
+        }
+
+        List<String> names = new ArrayList<>();
+        for (JsonNode entity : entities) {
+            names.add(entity.isObject() ? entity.path("name").asText("") : entity.asText(""));
+        }
+        return names;
+    }
+
+    private List<String> normalize(List<String> rawNames) {
+        LinkedHashSet<String> names = rawNames.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(EntitySchemaService::toEntityName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("No entities defined");
+        }
+        return List.copyOf(names);
+    }
+
+    static String toEntityName(String raw) {
+        String name = Arrays.stream(raw.split("[^A-Za-z0-9]+"))
+                .filter(part -> !part.isEmpty())
+                .map(part -> Character.toUpperCase(part.charAt(0)) + part.substring(1))
+                .collect(Collectors.joining());
+
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            throw new IllegalArgumentException("Invalid entity name: " + raw);
+        }
+        return name;
+    }
+
+    private static String singularize(String table) {
+        String lower = table.toLowerCase(Locale.ROOT);
+        if (lower.endsWith("ies") && lower.length() > 3) {
+            return table.substring(0, table.length() - 3) + "y";
+        }
+        if (lower.endsWith("sses") || lower.endsWith("xes") || lower.endsWith("ches") || lower.endsWith("shes")) {
+            return table.substring(0, table.length() - 2);
+        }
+        if (lower.endsWith("s") && !lower.endsWith("ss") && !lower.endsWith("us") && !lower.endsWith("is")) {
+            return table.substring(0, table.length() - 1);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,122 @@
+package com.springcli.service;
+
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.model.GenerationEvent;
+import com.springcli.model.GenerationJob;
+import com.springcli.model.ProjectConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationJobService {
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final ProjectGeneratorService projectGeneratorService;
+    private final ExecutorService generationJobExecutor;
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Sinks.Many<GenerationEvent>> streams = new ConcurrentHashMap<>();
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+
+    public GenerationJob submit(ProjectConfig config) {
+        GenerationJob job = GenerationJob.queued(UUID.randomUUID().toString(), config.outputDirectory());
+        jobs.put(job.id(), job);
+        streams.put(job.id(), Sinks.many().replay().all());
+
+        try {
+            generationJobExecutor.execute(() -> run(job.id(), config));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            streams.remove(job.id());
+            throw e;
+        }
+
+        log.info("Queued generation job {} for {}", job.id(), config.artifactId());
+        return job;
+    }
+
+    public ProjectTree build(ProjectConfig config) {
+        Future<ProjectTree> result = generationJobExecutor.submit(() -> projectGeneratorService.buildProject(config));
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to generate project: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating project", e);
+        }
+    }
+
+    public Optional<GenerationJob> find(String id) {
+        return Optional.ofNullable(id == null ? null : jobs.get(id));
+    }
+
+    public Optional<Flux<GenerationEvent>> events(String id) {
+        Sinks.Many<GenerationEvent> stream = id == null ? null : streams.get(id);
+        return Optional.ofNullable(stream).map(Sinks.Many::asFlux);
+    }
+
+    private void run(String id, ProjectConfig config) {
+        jobs.computeIfPresent(id, (key, job) -> job.running());
+        try {
+            projectGeneratorService.generateProject(config, event -> record(id, event));
+            complete(id, jobs.computeIfPresent(id, (key, job) -> job.succeeded()));
+        } catch (Exception e) {
+            log.error("Generation job {} failed", id, e);
+            complete(id, jobs.computeIfPresent(id, (key, job) -> job.failed(e.getMessage())));
+        }
+    }
+
+    private void record(String id, GenerationEvent event) {
+        log.debug("Generation job {}: {} took {} ms ({} files)", id, event.stage(), event.durationMillis(), event.files());
+        jobs.computeIfPresent(id, (key, job) -> job.withStage(event));
+        Sinks.Many<GenerationEvent> stream = streams.get(id);
+        if (stream != null) {
+            synchronized (stream) {
+                stream.tryEmitNext(event);
+            }
+        }
+    }
+
+    private void complete(String id, GenerationJob job) {
+        Sinks.Many<GenerationEvent> stream = streams.get(id);
+        if (stream != null) {
+            synchronized (stream) {
+                stream.tryEmitComplete();
+            }
+        }
+        if (job == null) {
+            return;
+        }
+        log.info("Generation job {} finished with status {}", id, job.status());
+        finished.add(id);
+        while (finished.size() > MAX_RETAINED_JOBS) {
+            String evicted = finished.poll();
+            if (evicted != null) {
+                jobs.remove(evicted);
+                streams.remove(evicted);
+            }
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.springcli.service;
 
 import com.springcli.model.ProjectConfig;
 import com.springcli.model.ProjectFeatures;
+import com.springcli.model.rules.DependencyRule;
 import com.springcli.model.rules.GradleConfig;
 import com.springcli.service.DependencyVersionResolver.LibraryVersions;
+import com.springcli.service.GradleScript.Block;
+import com.springcli.service.GradleScript.Dialect;
 import com.springcli.service.config.BuildPluginConfigurationService;
 import com.springcli.service.config.BuildPluginConfigurationService.GradlePlugin;
 import com.springcli.service.config.DependencyConfigurationRegistry;
@@ -12,7 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
@@ -25,182 +30,129 @@ public class GradleManipulationService {
     private final DependencyConfigurationRegistry configRegistry;
 
     public String enhanceGradleFile(String buildContent, ProjectConfig config) {
+        return enhanceGradleFile(buildContent, config, Dialect.GROOVY);
+    }
+
+    public String enhanceGradleFile(String buildContent, ProjectConfig config, Dialect dialect) {
         log.info("Enhancing build.gradle with complete auto-configuration");
 
         LibraryVersions versions = versionResolver.resolveVersions(config.springBootVersion());
-        ProjectFeatures features = config.features();
 
-        String enhanced = buildContent;
-        enhanced = ensurePlugins(enhanced, config);
-        enhanced = ensureSpringBootBom(enhanced, config.springBootVersion());
-        enhanced = injectFeatureDependencies(enhanced, features, versions);
-        enhanced = configureAnnotationProcessors(enhanced, config, versions);
-        enhanced = ensureTestConfiguration(enhanced, versions);
-        enhanced = cleanupWhitespace(enhanced);
+        GradleScript script = GradleScript.parse(buildContent, dialect);
+        planPlugins(script, config);
+        planSpringBootBom(script, config.springBootVersion());
+        planDependencies(script, config, versions);
+        planTestConfiguration(script);
+        String enhanced = script.apply();
 
         log.info("Build.gradle enhancement completed successfully");
         return enhanced;
     }
 
-    private String ensurePlugins(String buildContent, ProjectConfig config) {
-        if (!buildContent.contains("plugins {")) {
-            List<GradlePlugin> plugins = pluginConfigService.generateGradlePlugins(
-                    config.springBootVersion(),
-                    config.dependencies(),
-                    config.features()
-            );
-
-            StringBuilder pluginsBlock = new StringBuilder("plugins {\n");
-            for (GradlePlugin plugin : plugins) {
-                if (plugin.version() != null) {
-                    pluginsBlock.append("    id '").append(plugin.id())
-                            .append("' version '").append(plugin.version()).append("'\n");
-                } else {
-                    pluginsBlock.append("    id '").append(plugin.id()).append("'\n");
-                }
+    private void planPlugins(GradleScript script, ProjectConfig config) {
+        List<GradlePlugin> plugins = pluginConfigService.generateGradlePlugins(
+                config.springBootVersion(),
+                config.dependencies(),
+                config.features()
+        );
+
+        List<String> lines = new ArrayList<>();
+        for (GradlePlugin plugin : plugins) {
+            if (!script.pluginIds().contains(plugin.id())) {
+                lines.add(script.dialect().plugin(plugin.id(), plugin.version()));
             }
-            pluginsBlock.append("}\n\n");
-
-            return pluginsBlock + buildContent;
         }
 
-        return buildContent;
-    }
-
-    private String ensureSpringBootBom(String buildContent, String springBootVersion) {
-        if (!buildContent.contains("org.springframework.boot:spring-boot-dependencies")) {
-            int dependencyManagementPos = buildContent.indexOf("dependencyManagement {");
-
-            if (dependencyManagementPos == -1) {
-                String bomSection = """
-
-                        dependencyManagement {
-                            imports {
-                                mavenBom "org.springframework.boot:spring-boot-dependencies:%s"
-                            }
-                        }
-
-                        """.formatted(springBootVersion);
-
-                int dependenciesPos = buildContent.indexOf("dependencies {");
-                if (dependenciesPos != -1) {
-                    return buildContent.substring(0, dependenciesPos) + bomSection + buildContent.substring(dependenciesPos);
-                }
+        Optional<Block> pluginsBlock = script.block("plugins");
+        if (pluginsBlock.isPresent()) {
+            if (!lines.isEmpty()) {
+                script.appendTo(pluginsBlock.get(), lines);
             }
+            return;
         }
 
-        return buildContent;
+        List<String> block = new ArrayList<>();
+        block.add("plugins {");
+        lines.forEach(line -> block.add("    " + line));
+        block.add("}");
+        script.prepend(block);
     }
 
-    private String injectFeatureDependencies(String buildContent, ProjectFeatures features, LibraryVersions versions) {
-        int dependenciesEnd = findDependenciesBlock(buildContent);
-        if (dependenciesEnd == -1) {
-            log.warn("Could not find dependencies block in build.gradle");
-            return buildContent;
+    private void planSpringBootBom(GradleScript script, String springBootVersion) {
+        if (script.references("org.springframework.boot:spring-boot-dependencies")) {
+            return;
         }
 
-        List<String> featureDependencies = getActiveFeaturesAsDependencyIds(features);
-
-        StringBuilder injections = new StringBuilder();
+        String bom = script.dialect().mavenBom("org.springframework.boot:spring-boot-dependencies:" + springBootVersion);
+        Optional<Block> imports = script.block("dependencyManagement/imports");
+        Optional<Block> dependencyManagement = script.block("dependencyManagement");
 
-        for (String dependencyId : featureDependencies) {
-            configRegistry.getRule(dependencyId).ifPresent(rule -> {
-                if (rule.build() != null && rule.build().gradle() != null) {
-                    injections.append(generateGradleDependencies(rule.build().gradle()));
-                }
-            });
-        }
-
-        if (injections.length() > 0) {
-            return buildContent.substring(0, dependenciesEnd) + "\n" + injections + buildContent.substring(dependenciesEnd);
+        if (imports.isPresent()) {
+            script.appendTo(imports.get(), List.of(bom));
+        } else if (dependencyManagement.isPresent()) {
+            script.appendTo(dependencyManagement.get(), List.of("imports {", "    " + bom, "}"));
+        } else {
+            script.block("dependencies").ifPresent(dependencies -> script.insertBefore(dependencies,
+                    List.of("dependencyManagement {", "    imports {", "        " + bom, "    }", "}")));
         }
-
-        return buildContent;
     }
 
-    private List<String> getActiveFeaturesAsDependencyIds(ProjectFeatures features) {
-        List<String> dependencies = new ArrayList<>();
-
-        if (features.enableJwt()) {
-            dependencies.add("jwt");
-        }
-        if (features.enableSwagger()) {
-            dependencies.add("swagger");
-        }
-        if (features.enableMapStruct()) {
-            dependencies.add("mapstruct");
+    private void planDependencies(GradleScript script, ProjectConfig config, LibraryVersions versions) {
+        Optional<Block> dependencies = script.block("dependencies");
+        if (dependencies.isEmpty()) {
+            log.warn("Could not find dependencies block in build.gradle");
+            return;
         }
 
-        return dependencies;
-    }
-
-    private String generateGradleDependencies(GradleConfig gradle) {
-        StringBuilder deps = new StringBuilder();
-
-        if (gradle.implementation() != null) {
-            gradle.implementation().forEach(dep ->
-                deps.append("    implementation \"").append(dep).append("\"\n")
-            );
-        }
+        Set<String> declared = new HashSet<>(script.declaredDependencies());
+        List<String> lines = new ArrayList<>();
 
-        if (gradle.compileOnly() != null) {
-            gradle.compileOnly().forEach(dep ->
-                deps.append("    compileOnly \"").append(dep).append("\"\n")
-            );
+        for (DependencyRule rule : configRegistry.resolve(config).rules()) {
+            if (config.dependencies().contains(rule.id()) || rule.build() == null || rule.build().gradle() == null) {
+                continue;
+            }
+            GradleConfig gradle = rule.build().gradle();
+            addDependencies(script, lines, declared, "implementation", gradle.implementation());
+            addDependencies(script, lines, declared, "compileOnly", gradle.compileOnly());
+            addDependencies(script, lines, declared, "runtimeOnly", gradle.runtimeOnly());
+            addDependencies(script, lines, declared, "annotationProcessor", gradle.annotationProcessor());
         }
 
-        if (gradle.runtimeOnly() != null) {
-            gradle.runtimeOnly().forEach(dep ->
-                deps.append("    runtimeOnly \"").append(dep).append("\"\n")
-            );
+        List<AnnotationProcessor> processors = determineAnnotationProcessors(script, config, versions);
+        if (!processors.isEmpty()) {
+            log.info("Configuring {} annotation processors for Gradle", processors.size());
+            addDependencies(script, lines, declared, "annotationProcessor",
+                    processors.stream().map(this::formatAnnotationProcessor).toList());
         }
 
-        if (gradle.annotationProcessor() != null) {
-            gradle.annotationProcessor().forEach(dep ->
-                deps.append("    annotationProcessor \"").append(dep).append("\"\n")
-            );
+        if (!lines.isEmpty()) {
+            script.appendTo(dependencies.get(), lines);
         }
-
-        return deps.toString();
     }
 
-    private String configureAnnotationProcessors(String buildContent, ProjectConfig config, LibraryVersions versions) {
-        List<AnnotationProcessor> processors = determineAnnotationProcessors(buildContent, config, versions);
-
-        if (processors.isEmpty()) {
-            return buildContent;
-        }
-
-        log.info("Configuring {} annotation processors for Gradle", processors.size());
-
-        int dependenciesEnd = findDependenciesBlock(buildContent);
-        if (dependenciesEnd == -1) {
-            log.warn("Could not find dependencies block to inject annotation processors");
-            return buildContent;
+    private void addDependencies(GradleScript script, List<String> lines, Set<String> declared, String configuration, List<String> notations) {
+        if (notations == null) {
+            return;
         }
-
-        StringBuilder processorsBlock = new StringBuilder();
-        for (AnnotationProcessor processor : processors) {
-            processorsBlock.append(formatAnnotationProcessor(processor));
-        }
-
-        if (!buildContent.substring(0, dependenciesEnd).contains("annotationProcessor")) {
-            return buildContent.substring(0, dependenciesEnd) + "\n" + processorsBlock + buildContent.substring(dependenciesEnd);
+        for (String notation : notations) {
+            String[] coordinates = notation.split(":");
+            String module = coordinates.length > 1 ? coordinates[0] + ":" + coordinates[1] : notation;
+            if (declared.add(configuration + " " + module)) {
+                lines.add(script.dialect().dependency(configuration, notation));
+            }
         }
-
-        return buildContent;
     }
 
-    private List<AnnotationProcessor> determineAnnotationProcessors(String buildContent, ProjectConfig config, LibraryVersions versions) {
+    private List<AnnotationProcessor> determineAnnotationProcessors(GradleScript script, ProjectConfig config, LibraryVersions versions) {
         List<AnnotationProcessor> processors = new ArrayList<>();
         Set<String> dependencies = config.dependencies();
         ProjectFeatures features = config.features();
 
-        boolean hasLombok = buildContent.contains("lombok");
+        boolean hasLombok = script.declaresModule("org.projectlombok:lombok");
         boolean hasMapStruct = features.enableMapStruct();
         boolean hasQueryDsl = dependencies.stream().anyMatch(dep -> dep.contains("querydsl"));
         boolean hasHibernateModelGen = dependencies.stream().anyMatch(dep -> dep.contains("hibernate") && dep.contains("jpamodelgen"));
-        boolean hasConfigProcessor = buildContent.contains("spring-boot-configuration-processor");
+        boolean hasConfigProcessor = script.declaresModule("org.springframework.boot:spring-boot-configuration-processor");
 
         if (hasLombok && hasMapStruct) {
             processors.add(new AnnotationProcessor("org.projectlombok", "lombok", "1.18.36", null));
@@ -235,65 +187,39 @@ public class GradleManipulationService {
 
     private String formatAnnotationProcessor(AnnotationProcessor processor) {
         if (processor.classifier != null) {
-            return "    annotationProcessor \"%s:%s:%s:%s\"\n".formatted(
-                    processor.groupId, processor.artifactId, processor.version, processor.classifier
-            );
+            return "%s:%s:%s:%s".formatted(processor.groupId, processor.artifactId, processor.version, processor.classifier);
         } else if (processor.version != null) {
-            return "    annotationProcessor \"%s:%s:%s\"\n".formatted(
-                    processor.groupId, processor.artifactId, processor.version
-            );
+            return "%s:%s:%s".formatted(processor.groupId, processor.artifactId, processor.version);
         } else {
-            return "    annotationProcessor \"%s:%s\"\n".formatted(
-                    processor.groupId, processor.artifactId
-            );
+            return "%s:%s".formatted(processor.groupId, processor.artifactId);
         }
     }
 
-    private String ensureTestConfiguration(String buildContent, LibraryVersions versions) {
-        if (!buildContent.contains("test {")) {
-            String testConfig = """
-
-                    test {
-                        useJUnitPlatform()
-                        testLogging {
-                            events "passed", "skipped", "failed"
-                        }
-                    }
-                    """;
-
-            int pos = buildContent.lastIndexOf("}");
-            if (pos != -1) {
-                return buildContent.substring(0, pos) + testConfig + buildContent.substring(pos);
-            }
-        }
-
-        return buildContent;
-    }
+    private void planTestConfiguration(GradleScript script) {
+        List<String> testLogging = List.of("testLogging {", "    " + script.dialect().testLoggingEvents(), "}");
+        Optional<Block> testTask = script.testTask();
 
-    private int findDependenciesBlock(String gradle) {
-        int dependenciesBlock = gradle.indexOf("dependencies {");
-        if (dependenciesBlock == -1) return -1;
-
-        int braceCount = 0;
-        int pos = dependenciesBlock + "dependencies {".length();
-
-        while (pos < gradle.length()) {
-            char c = gradle.charAt(pos);
-            if (c == '{') braceCount++;
-            if (c == '}') {
-                if (braceCount == 0) return pos;
-                braceCount--;
-            }
-            pos++;
+        if (testTask.isEmpty()) {
+            List<String> lines = new ArrayList<>();
+            lines.add(script.dialect().testTask() + " {");
+            lines.add("    useJUnitPlatform()");
+            testLogging.forEach(line -> lines.add("    " + line));
+            lines.add("}");
+            script.append(lines);
+            return;
         }
 
-        return -1;
-    }
-
-    private String cleanupWhitespace(String buildContent) {
-        return buildContent
-                .replaceAll("\n{3,}", "\n\n")
-                .replaceAll(" {2,}", " ");
+        String body = script.body(testTask.get());
+        List<String> lines = new ArrayList<>();
+        if (!body.contains("useJUnitPlatform")) {
+            lines.add("useJUnitPlatform()");
+        }
+        if (!body.contains("testLogging")) {
+            lines.addAll(testLogging);
+        }
+        if (!lines.isEmpty()) {
+            script.appendTo(testTask.get(), lines);
+        }
     }
 
     private record AnnotationProcessor(String groupId, String artifactId, String version, String classifier) {}
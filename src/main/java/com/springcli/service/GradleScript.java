@@ -0,0 +1,311 @@
+package com.springcli.service;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class GradleScript {
+
+    private static final Pattern TEST_TASK = Pattern.compile(
+            "test|tasks\\.test|tasks\\.named(<Test>)?\\(['\"]test['\"]\\)|tasks\\.withType(<Test>|\\(Test(::class(\\.java)?)?\\))(\\(\\))?(\\.configureEach)?");
+    private static final Pattern PLUGIN_ID = Pattern.compile("\\bid\\s*\\(?\\s*[\"']([^\"']+)[\"']");
+    private static final Pattern CORE_PLUGIN = Pattern.compile("(?m)^\\s*`?([A-Za-z][\\w-]*)`?\\s*$");
+    private static final Pattern DEPENDENCY = Pattern.compile(
+            "\\b(\\w+)\\s*\\(?\\s*(?:(?:enforced)?[pP]latform\\s*\\(\\s*)?[\"']([^\"':\\s]+:[^\"':\\s]+)");
+
+    private final String source;
+    private final String code;
+    private final Dialect dialect;
+    private final String lineSeparator;
+    private final String indentUnit;
+    private final Map<String, Block> blocks = new LinkedHashMap<>();
+    private final Set<String> pluginIds = new HashSet<>();
+    private final Set<String> dependencies = new HashSet<>();
+    private final TextEdits edits = new TextEdits();
+
+    private GradleScript(String source, Dialect dialect) {
+        this.source = source;
+        this.dialect = dialect;
+        this.code = maskComments(source);
+        this.lineSeparator = source.contains("\r\n") ? "\r\n" : "\n";
+        this.indentUnit = detectIndentUnit(code);
+    }
+
+    public static GradleScript parse(String script, Dialect dialect) {
+        GradleScript gradleScript = new GradleScript(script, dialect);
+        gradleScript.scan();
+        gradleScript.indexDeclarations();
+        return gradleScript;
+    }
+
+    public Dialect dialect() {
+        return dialect;
+    }
+
+    public Optional<Block> block(String path) {
+        return Optional.ofNullable(blocks.get(path));
+    }
+
+    public Optional<Block> testTask() {
+        return blocks.values().stream()
+                .filter(block -> block.depth() == 0 && TEST_TASK.matcher(block.name()).matches())
+                .findFirst();
+    }
+
+    public Set<String> pluginIds() {
+        return Collections.unmodifiableSet(pluginIds);
+    }
+
+    public Set<String> declaredDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
+    public boolean declaresModule(String module) {
+        return dependencies.stream().anyMatch(dependency -> dependency.endsWith(" " + module));
+    }
+
+    public boolean references(String text) {
+        return code.contains(text);
+    }
+
+    public String body(Block block) {
+        return code.substring(block.open() + 1, block.close());
+    }
+
+    public void appendTo(Block block, List<String> lines) {
+        String indent = indentOf(block.start());
+        String rendered = render(lines, indent + indentUnit);
+
+        if (startsLine(block.close())) {
+            edits.insert(lineStart(block.close()), rendered);
+        } else {
+            edits.insert(block.close(), lineSeparator + rendered + indent);
+        }
+    }
+
+    public void insertBefore(Block block, List<String> lines) {
+        String indent = indentOf(block.start());
+        if (startsLine(block.start())) {
+            edits.insert(lineStart(block.start()), render(lines, indent) + lineSeparator);
+        } else {
+            edits.insert(block.start(), render(lines, indent).substring(indent.length()) + lineSeparator + indent);
+        }
+    }
+
+    public void prepend(List<String> lines) {
+        Optional<Block> preamble = block("buildscript").or(() -> block("pluginManagement"));
+        if (preamble.isPresent()) {
+            edits.insert(preamble.get().close() + 1, lineSeparator + lineSeparator + stripLastSeparator(render(lines, "")));
+        } else {
+            edits.insert(0, render(lines, "") + lineSeparator);
+        }
+    }
+
+    public void append(List<String> lines) {
+        int end = source.length();
+        while (end > 0 && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        String separator = end == 0 ? "" : lineSeparator + lineSeparator;
+        edits.insert(end, separator + stripLastSeparator(render(lines, "")));
+    }
+
+    public String apply() {
+        return edits.apply(source);
+    }
+
+    private void scan() {
+        Deque<Block> open = new ArrayDeque<>();
+        int index = 0;
+
+        while (index < code.length()) {
+            char c = code.charAt(index);
+
+            if (c == '"' || c == '\'') {
+                index = skipQuoted(code, index);
+                continue;
+            }
+
+            if (c == '{') {
+                int headerStart = headerStart(index);
+                String name = code.substring(headerStart, index).replaceAll("\\s+", "");
+                String path = open.isEmpty() ? name : open.peek().path() + "/" + name;
+                open.push(new Block(name, path, open.size(), headerStart, index, -1));
+            } else if (c == '}') {
+                if (open.isEmpty()) {
+                    throw new IllegalArgumentException("Malformed build script: unexpected '}' at offset " + index);
+                }
+                Block opened = open.pop();
+                blocks.putIfAbsent(opened.path(), new Block(opened.name(), opened.path(), opened.depth(), opened.start(), opened.open(), index));
+            }
+            index++;
+        }
+
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("Malformed build script: block '" + open.peek().name() + "' is never closed");
+        }
+    }
+
+    private void indexDeclarations() {
+        block("plugins").ifPresent(plugins -> {
+            String body = body(plugins);
+            Matcher matcher = PLUGIN_ID.matcher(body);
+            while (matcher.find()) {
+                pluginIds.add(matcher.group(1));
+            }
+            matcher = CORE_PLUGIN.matcher(body);
+            while (matcher.find()) {
+                pluginIds.add(matcher.group(1));
+            }
+        });
+
+        block("dependencies").ifPresent(block -> {
+            Matcher matcher = DEPENDENCY.matcher(body(block));
+            while (matcher.find()) {
+                dependencies.add(matcher.group(1) + " " + matcher.group(2));
+            }
+        });
+    }
+
+    private int headerStart(int brace) {
+        int boundary = brace - 1;
+        while (boundary >= 0 && "\n;{}".indexOf(code.charAt(boundary)) < 0) {
+            boundary--;
+        }
+        int start = boundary + 1;
+        while (start < brace && Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private String render(List<String> lines, String indent) {
+        StringBuilder rendered = new StringBuilder();
+        for (String line : lines) {
+            int spaces = 0;
+            while (spaces < line.length() && line.charAt(spaces) == ' ') {
+                spaces++;
+            }
+            rendered.append(indent).append(indentUnit.repeat(spaces / 4)).append(line.substring(spaces)).append(lineSeparator);
+        }
+        return rendered.toString();
+    }
+
+    private String stripLastSeparator(String text) {
+        return text.endsWith(lineSeparator) ? text.substring(0, text.length() - lineSeparator.length()) : text;
+    }
+
+    private String indentOf(int offset) {
+        int lineStart = lineStart(offset);
+        return startsLine(offset) ? source.substring(lineStart, offset) : "";
+    }
+
+    private boolean startsLine(int offset) {
+        return source.substring(lineStart(offset), offset).isBlank();
+    }
+
+    private int lineStart(int offset) {
+        return source.lastIndexOf('\n', offset - 1) + 1;
+    }
+
+    private static String maskComments(String source) {
+        char[] masked = source.toCharArray();
+        int index = 0;
+
+        while (index < masked.length) {
+            char c = masked[index];
+            char next = index + 1 < masked.length ? masked[index + 1] : 0;
+
+            if (c == '"' || c == '\'') {
+                index = skipQuoted(source, index);
+            } else if (c == '/' && next == '/') {
+                while (index < masked.length && masked[index] != '\n') {
+                    masked[index++] = ' ';
+                }
+            } else if (c == '/' && next == '*') {
+                int end = source.indexOf("*/", index + 2);
+                end = end < 0 ? masked.length : end + 2;
+                for (; index < end; index++) {
+                    if (masked[index] != '\n' && masked[index] != '\r') {
+                        masked[index] = ' ';
+                    }
+                }
+            } else {
+                index++;
+            }
+        }
+        return new String(masked);
+    }
+
+    private static int skipQuoted(String source, int start) {
+        char quote = source.charAt(start);
+        String triple = String.valueOf(quote).repeat(3);
+
+        if (source.startsWith(triple, start)) {
+            int end = source.indexOf(triple, start + 3);
+            return end < 0 ? source.length() : end + 3;
+        }
+
+        for (int i = start + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            }
+        }
+        return source.length();
+    }
+
+    private static String detectIndentUnit(String code) {
+        for (String line : code.split("\n")) {
+            int indent = 0;
+            while (indent < line.length() && (line.charAt(indent) == ' ' || line.charAt(indent) == '\t')) {
+                indent++;
+            }
+            if (indent > 0 && !line.isBlank()) {
+                return line.substring(0, indent);
+            }
+        }
+        return "    ";
+    }
+
+    public enum Dialect {
+        GROOVY,
+        KOTLIN;
+
+        public static Dialect forFile(String fileName) {
+            return fileName.endsWith(".kts") ? KOTLIN : GROOVY;
+        }
+
+        public String plugin(String id, String version) {
+            String declaration = this == KOTLIN ? "id(\"" + id + "\")" : "id '" + id + "'";
+            if (version == null) {
+                return declaration;
+            }
+            return declaration + (this == KOTLIN ? " version \"" + version + "\"" : " version '" + version + "'");
+        }
+
+        public String dependency(String configuration, String notation) {
+            return this == KOTLIN
+                    ? configuration + "(\"" + notation + "\")"
+                    : configuration + " \"" + notation + "\"";
+        }
+
+        public String mavenBom(String notation) {
+            return this == KOTLIN ? "mavenBom(\"" + notation + "\")" : "mavenBom \"" + notation + "\"";
+        }
+
+        public String testTask() {
+            return this == KOTLIN ? "tasks.withType<Test>" : "test";
+        }
+
+        public String testLoggingEvents() {
+            return this == KOTLIN
+                    ? "events(\"passed\", \"skipped\", \"failed\")"
+                    : "events \"passed\", \"skipped\", \"failed\"";
+        }
+    }
+
+    public record Block(String name, String path, int depth, int start, int open, int close) {}
+}
@@ -0,0 +1,188 @@
+package com.springcli.service;
+
+import com.springcli.model.BuildToolOption;
+import com.springcli.model.Dependency;
+import com.springcli.model.DependencyGroup;
+import com.springcli.model.SpringMetadata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+final class MetadataBinaryCodec {
+
+    static final int MAGIC = 0x53434C4D;
+    static final short VERSION = 2;
+    static final int HEADER_BYTES = 4 + 2 + 4 + 8;
+
+    private MetadataBinaryCodec() {
+    }
+
+    static byte[] encode(SpringMetadata metadata) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(16 * 1024);
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            writeString(out, metadata.defaultSpringBootVersion());
+            writeStrings(out, metadata.springBootVersions());
+            writeStrings(out, metadata.javaVersions());
+            writeStrings(out, metadata.packagingTypes());
+
+            out.writeInt(metadata.buildTools().size());
+            for (BuildToolOption buildTool : metadata.buildTools()) {
+                writeString(out, buildTool.id());
+                writeString(out, buildTool.name());
+                writeString(out, buildTool.description());
+            }
+
+            writeString(out, metadata.defaultBuildTool());
+            writeStrings(out, metadata.languages());
+            writeString(out, metadata.defaultLanguage());
+
+            out.writeInt(metadata.dependencyGroups().size());
+            for (Map.Entry<String, DependencyGroup> entry : metadata.dependencyGroups().entrySet()) {
+                DependencyGroup group = entry.getValue();
+                writeString(out, entry.getKey());
+                writeString(out, group.name());
+                List<Dependency> dependencies = group.dependencies() == null ? List.of() : group.dependencies();
+                out.writeInt(dependencies.size());
+                for (Dependency dependency : dependencies) {
+                    writeString(out, dependency.id());
+                    writeString(out, dependency.name());
+                    writeString(out, dependency.description());
+                }
+            }
+
+            out.writeLong(metadata.cachedAt());
+            writeString(out, metadata.etag());
+            writeString(out, metadata.lastModified());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode metadata", e);
+        }
+
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        return ByteBuffer.allocate(HEADER_BYTES + body.length)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putInt(body.length)
+                .putLong(crc.getValue())
+                .put(body)
+                .array();
+    }
+
+    static SpringMetadata decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a metadata cache file");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported metadata cache version " + version);
+            }
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (length != buffer.remaining()) {
+                throw new IOException("Truncated metadata cache file");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) {
+                throw new IOException("Metadata cache checksum mismatch");
+            }
+
+            return readMetadata(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupt metadata cache file", e);
+        }
+    }
+
+    private static SpringMetadata readMetadata(ByteBuffer in) {
+        String defaultSpringBootVersion = readString(in);
+        List<String> springBootVersions = readStrings(in);
+        List<String> javaVersions = readStrings(in);
+        List<String> packagingTypes = readStrings(in);
+
+        int buildToolCount = readCount(in);
+        List<BuildToolOption> buildTools = new ArrayList<>(buildToolCount);
+        for (int i = 0; i < buildToolCount; i++) {
+            buildTools.add(new BuildToolOption(readString(in), readString(in), readString(in)));
+        }
+
+        String defaultBuildTool = readString(in);
+        List<String> languages = readStrings(in);
+        String defaultLanguage = readString(in);
+
+        int groupCount = readCount(in);
+        Map<String, DependencyGroup> dependencyGroups = new LinkedHashMap<>();
+        for (int i = 0; i < groupCount; i++) {
+            String key = readString(in);
+            String name = readString(in);
+            int dependencyCount = readCount(in);
+            List<Dependency> dependencies = new ArrayList<>(dependencyCount);
+            for (int j = 0; j < dependencyCount; j++) {
+                dependencies.add(new Dependency(readString(in), readString(in), readString(in)));
+            }
+            dependencyGroups.put(key, new DependencyGroup(name, dependencies));
+        }
+
+        long cachedAt = in.getLong();
+        String etag = readString(in);
+        String lastModified = readString(in);
+        return new SpringMetadata(defaultSpringBootVersion, springBootVersions, javaVersions, packagingTypes,
+                buildTools, defaultBuildTool, languages, defaultLanguage, dependencyGroups, cachedAt, etag, lastModified);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = readCount(in);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds remaining bytes");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid element count " + count);
+        }
+        return count;
+    }
+}
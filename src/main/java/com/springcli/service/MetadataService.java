@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -15,23 +16,56 @@ public class MetadataService {
 
     private final SpringInitializrClient initializrClient;
     private final CacheService cacheService;
+    private final StarterCacheService starterCacheService;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
     public SpringMetadata getMetadata() {
         Optional<SpringMetadata> cached = cacheService.getCachedMetadata();
 
         if (cached.isPresent()) {
+            if (cacheService.isExpired(cached.get())) {
+                log.info("Cache expired, serving stale metadata while refreshing in background");
+                refreshInBackground(cached.get());
+            }
             return cached.get();
         }
 
-        log.info("Fetching fresh metadata from Spring Initializr");
-        SpringMetadata metadata = initializrClient.fetchMetadata();
-        cacheService.cacheMetadata(metadata);
+        return fetchAndCache(null);
+    }
 
-        return metadata;
+    public byte[] getMetadataJson() {
+        return cacheService.toJson(getMetadata());
     }
 
     public void refreshMetadata() {
         cacheService.clearCache();
+        starterCacheService.clear();
         getMetadata();
     }
+
+    private SpringMetadata fetchAndCache(SpringMetadata previous) {
+        log.info("Fetching fresh metadata from Spring Initializr");
+        SpringMetadata metadata = previous == null ? initializrClient.fetchMetadata() : initializrClient.fetchMetadata(previous);
+        cacheService.cacheMetadata(metadata);
+        return metadata;
+    }
+
+    private void refreshInBackground(SpringMetadata stale) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread refresher = new Thread(() -> {
+            try {
+                fetchAndCache(stale);
+            } catch (Exception e) {
+                log.warn("Background metadata refresh failed, keeping stale cache", e);
+            } finally {
+                refreshing.set(false);
+            }
+        }, "spring-cli-metadata-refresh");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
 }
@@ -0,0 +1,314 @@
+package com.springcli.service;
+
+import java.util.*;
+
+public final class PomDocument {
+
+    private static final String PROJECT = "project";
+    private static final String PLUGIN_PATH = "project/build/plugins/plugin";
+    private static final String COMPILER_PLUGIN = "maven-compiler-plugin";
+
+    private final String source;
+    private final String lineSeparator;
+    private final String indentUnit;
+    private final Map<String, Element> sections = new HashMap<>();
+    private final Map<String, Element> properties = new LinkedHashMap<>();
+    private final Map<String, Set<String>> artifactIds = new HashMap<>();
+    private final Map<String, Element> compilerPlugin = new HashMap<>();
+    private final Map<String, Element> currentPlugin = new HashMap<>();
+    private final TextEdits edits = new TextEdits();
+    private String currentPluginArtifact;
+
+    private PomDocument(String source) {
+        this.source = source;
+        this.lineSeparator = source.contains("\r\n") ? "\r\n" : "\n";
+        this.indentUnit = detectIndentUnit(source);
+    }
+
+    public static PomDocument parse(String xml) {
+        PomDocument document = new PomDocument(xml);
+        document.scan();
+        return document;
+    }
+
+    public Optional<Element> section(String path) {
+        return Optional.ofNullable(sections.get(path));
+    }
+
+    public Optional<Element> property(String name) {
+        return Optional.ofNullable(properties.get(name));
+    }
+
+    public boolean declares(String section, String artifactId) {
+        return artifactIds.getOrDefault(section, Set.of()).contains(artifactId);
+    }
+
+    public Optional<Element> compilerPlugin(String child) {
+        return Optional.ofNullable(compilerPlugin.get(child));
+    }
+
+    public void replaceContent(Element element, String text) {
+        edits.replace(element.contentStart(), element.contentEnd(), text);
+    }
+
+    public void replaceChildren(Element element, Block block) {
+        String indent = indentOf(element);
+        edits.replace(element.contentStart(), element.contentEnd(),
+                lineSeparator + block.render(indent + indentUnit, indentUnit, lineSeparator) + indent);
+    }
+
+    public void appendTo(Element parent, Block block) {
+        String indent = indentOf(parent);
+        String children = block.render(indent + indentUnit, indentUnit, lineSeparator);
+
+        if (parent.selfClosing()) {
+            edits.replace(parent.start(), parent.end(),
+                    "<" + parent.name() + ">" + lineSeparator + children + indent + "</" + parent.name() + ">");
+        } else if (startsLine(parent.contentEnd())) {
+            edits.insert(lineStart(parent.contentEnd()), children);
+        } else {
+            edits.insert(parent.contentEnd(), lineSeparator + children + indent);
+        }
+    }
+
+    public void insertBefore(Element sibling, Block block) {
+        String indent = indentOf(sibling);
+        String rendered = block.render(indent, indentUnit, lineSeparator);
+
+        if (startsLine(sibling.start())) {
+            edits.insert(lineStart(sibling.start()), rendered);
+        } else {
+            edits.insert(sibling.start(), rendered.substring(indent.length()) + indent);
+        }
+    }
+
+    public String apply() {
+        int from = 0;
+        while (from < source.length() && Character.isWhitespace(source.charAt(from))) {
+            from++;
+        }
+        int to = source.length();
+        while (to > from && Character.isWhitespace(source.charAt(to - 1))) {
+            to--;
+        }
+        return edits.apply(source, from, to);
+    }
+
+    private void scan() {
+        Deque<OpenElement> open = new ArrayDeque<>();
+        int cursor = 0;
+
+        while ((cursor = source.indexOf('<', cursor)) >= 0) {
+            if (source.startsWith("<!--", cursor)) {
+                cursor = skipPast(cursor, "-->");
+            } else if (source.startsWith("<![CDATA[", cursor)) {
+                cursor = skipPast(cursor, "]]>");
+            } else if (source.startsWith("<?", cursor)) {
+                cursor = skipPast(cursor, "?>");
+            } else if (source.startsWith("<!", cursor)) {
+                cursor = skipPast(cursor, ">");
+            } else if (source.startsWith("</", cursor)) {
+                int end = skipPast(cursor, ">");
+                String name = source.substring(cursor + 2, end - 1).strip();
+                if (open.isEmpty() || !open.peek().name().equals(name)) {
+                    throw new IllegalArgumentException("Malformed pom.xml: unexpected </" + name + "> at offset " + cursor);
+                }
+                close(open.pop(), cursor, end);
+                cursor = end;
+            } else {
+                int end = tagEnd(cursor);
+                String name = tagName(cursor + 1);
+                String path = open.isEmpty() ? name : open.peek().path() + "/" + name;
+                OpenElement opened = new OpenElement(name, path, open.size(), cursor, end);
+
+                if (source.charAt(end - 2) == '/') {
+                    close(opened, end, end);
+                } else {
+                    open.push(opened);
+                }
+                cursor = end;
+            }
+        }
+
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("Malformed pom.xml: <" + open.peek().name() + "> is never closed");
+        }
+    }
+
+    private void close(OpenElement opened, int contentEnd, int end) {
+        Element element = new Element(opened.name(), opened.depth(), opened.start(), opened.contentStart(), contentEnd, end);
+        String path = opened.path();
+
+        if (opened.name().equals("artifactId") && opened.depth() >= 2) {
+            String owner = path.substring(0, path.lastIndexOf('/'));
+            String artifactId = source.substring(element.contentStart(), element.contentEnd()).strip();
+            artifactIds.computeIfAbsent(owner.substring(0, owner.lastIndexOf('/')), key -> new HashSet<>()).add(artifactId);
+            if (owner.equals(PLUGIN_PATH)) {
+                currentPluginArtifact = artifactId;
+            }
+            return;
+        }
+
+        switch (path) {
+            case PROJECT,
+                 "project/properties",
+                 "project/dependencyManagement",
+                 "project/dependencyManagement/dependencies",
+                 "project/dependencies",
+                 "project/build",
+                 "project/build/plugins" -> sections.putIfAbsent(path, element);
+            case PLUGIN_PATH + "/configuration" -> currentPlugin.put("configuration", element);
+            case PLUGIN_PATH + "/configuration/annotationProcessorPaths" -> currentPlugin.put("annotationProcessorPaths", element);
+            case PLUGIN_PATH -> {
+                if (COMPILER_PLUGIN.equals(currentPluginArtifact) && compilerPlugin.isEmpty()) {
+                    compilerPlugin.putAll(currentPlugin);
+                    compilerPlugin.put("plugin", element);
+                }
+                currentPlugin.clear();
+                currentPluginArtifact = null;
+            }
+            default -> {
+                if (path.startsWith("project/properties/") && opened.depth() == 2) {
+                    properties.putIfAbsent(opened.name(), element);
+                }
+            }
+        }
+    }
+
+    private int skipPast(int from, String terminator) {
+        int index = source.indexOf(terminator, from);
+        if (index < 0) {
+            throw new IllegalArgumentException("Malformed pom.xml: missing '" + terminator + "' after offset " + from);
+        }
+        return index + terminator.length();
+    }
+
+    private int tagEnd(int from) {
+        char quote = 0;
+        for (int i = from + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Malformed pom.xml: unterminated tag at offset " + from);
+    }
+
+    private String tagName(int from) {
+        int end = from;
+        while (end < source.length() && !Character.isWhitespace(source.charAt(end))
+                && source.charAt(end) != '>' && source.charAt(end) != '/') {
+            end++;
+        }
+        return source.substring(from, end);
+    }
+
+    private String indentOf(Element element) {
+        int lineStart = lineStart(element.start());
+        return startsLine(element.start())
+                ? source.substring(lineStart, element.start())
+                : indentUnit.repeat(element.depth());
+    }
+
+    private boolean startsLine(int offset) {
+        return source.substring(lineStart(offset), offset).isBlank();
+    }
+
+    private int lineStart(int offset) {
+        return source.lastIndexOf('\n', offset - 1) + 1;
+    }
+
+    private static String detectIndentUnit(String source) {
+        int cursor = source.indexOf('>', Math.max(0, source.indexOf("<" + PROJECT)));
+
+        while (cursor >= 0 && (cursor = source.indexOf('\n', cursor) + 1) > 0) {
+            int contentStart = cursor;
+            while (contentStart < source.length() && (source.charAt(contentStart) == ' ' || source.charAt(contentStart) == '\t')) {
+                contentStart++;
+            }
+            if (contentStart > cursor && contentStart < source.length() && source.charAt(contentStart) == '<') {
+                return source.substring(cursor, contentStart);
+            }
+        }
+        return "    ";
+    }
+
+    public record Element(String name, int depth, int start, int contentStart, int contentEnd, int end) {
+        public boolean selfClosing() {
+            return contentStart == end;
+        }
+    }
+
+    public static final class Block {
+
+        private final List<Line> lines = new ArrayList<>();
+        private int level;
+
+        public Block open(String name) {
+            lines.add(new Line(level++, "<" + name + ">"));
+            return this;
+        }
+
+        public Block close(String name) {
+            lines.add(new Line(--level, "</" + name + ">"));
+            return this;
+        }
+
+        public Block element(String name, String value) {
+            if (value != null && !value.isEmpty()) {
+                lines.add(new Line(level, "<" + name + ">" + value + "</" + name + ">"));
+            }
+            return this;
+        }
+
+        public Block fragment(String xml) {
+            if (xml == null || xml.isBlank()) {
+                return this;
+            }
+
+            List<String> fragmentLines = xml.lines().filter(line -> !line.isBlank()).toList();
+            int margin = fragmentLines.stream()
+                    .mapToInt(Block::leadingSpaces)
+                    .min()
+                    .orElse(0);
+
+            for (String line : fragmentLines) {
+                lines.add(new Line(level + (leadingSpaces(line) - margin) / 4, line.strip()));
+            }
+            return this;
+        }
+
+        public Block append(Block other) {
+            other.lines.forEach(line -> lines.add(new Line(level + line.level(), line.text())));
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return lines.isEmpty();
+        }
+
+        String render(String indent, String indentUnit, String lineSeparator) {
+            StringBuilder rendered = new StringBuilder();
+            for (Line line : lines) {
+                rendered.append(indent).append(indentUnit.repeat(line.level())).append(line.text()).append(lineSeparator);
+            }
+            return rendered.toString();
+        }
+
+        private static int leadingSpaces(String line) {
+            int count = 0;
+            while (count < line.length() && line.charAt(count) == ' ') {
+                count++;
+            }
+            return count;
+        }
+
+        private record Line(int level, String text) {}
+    }
+
+    private record OpenElement(String name, String path, int depth, int start, int contentStart) {}
+}
@@ -5,6 +5,8 @@ import com.springcli.model.ProjectFeatures;
 import com.springcli.model.rules.DependencyRule;
 import com.springcli.model.rules.MavenDependency;
 import com.springcli.service.DependencyVersionResolver.LibraryVersions;
+import com.springcli.service.PomDocument.Block;
+import com.springcli.service.PomDocument.Element;
 import com.springcli.service.config.BuildPluginConfigurationService;
 import com.springcli.service.config.BuildPluginConfigurationService.MavenPlugin;
 import com.springcli.service.config.DependencyConfigurationRegistry;
@@ -13,7 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
@@ -21,6 +25,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class PomManipulationService {
 
+    private static final String LOMBOK_VERSION = "1.18.36";
+
     private final DependencyVersionResolver versionResolver;
     private final BuildPluginConfigurationService pluginConfigService;
     private final DependencyConfigurationRegistry configRegistry;
@@ -29,278 +35,194 @@ public class PomManipulationService {
         log.info("Enhancing pom.xml with complete auto-configuration");
 
         LibraryVersions versions = versionResolver.resolveVersions(config.springBootVersion());
-        ProjectFeatures features = config.features();
 
-        String enhanced = pomContent;
-        enhanced = ensureProperties(enhanced, config.javaVersion(), versions);
-        enhanced = ensureSpringBootBom(enhanced, config.springBootVersion());
-        enhanced = injectFeatureDependencies(enhanced, features, versions);
-        enhanced = ensurePluginsSection(enhanced);
-        enhanced = configureAnnotationProcessors(enhanced, config, versions);
-        enhanced = injectPlugins(enhanced, config);
-        enhanced = cleanupWhitespace(enhanced);
+        PomDocument pom = PomDocument.parse(pomContent);
+        planProperties(pom, config.javaVersion());
+        planSpringBootBom(pom, config.springBootVersion());
+        planFeatureDependencies(pom, config);
+        planBuild(pom, config, versions);
+        String enhanced = pom.apply();
 
         log.info("Pom.xml enhancement completed successfully");
         return enhanced;
     }
 
-    private String ensureProperties(String pomContent, String javaVersion, LibraryVersions versions) {
-        if (pomContent.contains("<properties>")) {
-            int propertiesEnd = pomContent.indexOf("</properties>");
-            if (propertiesEnd != -1) {
-                int propertiesStart = pomContent.indexOf("<properties>") + "<properties>".length();
-                String existingProps = pomContent.substring(propertiesStart, propertiesEnd);
-
-                if (existingProps.contains("<java.version>")) {
-                    pomContent = pomContent.replaceAll("<java.version>.*?</java.version>", "<java.version>" + javaVersion + "</java.version>");
-                }
-                if (existingProps.contains("<maven.compiler.source>")) {
-                    pomContent = pomContent.replaceAll("<maven.compiler.source>.*?</maven.compiler.source>", "<maven.compiler.source>" + javaVersion + "</maven.compiler.source>");
-                }
-                if (existingProps.contains("<maven.compiler.target>")) {
-                    pomContent = pomContent.replaceAll("<maven.compiler.target>.*?</maven.compiler.target>", "<maven.compiler.target>" + javaVersion + "</maven.compiler.target>");
-                }
+    private void planProperties(PomDocument pom, String javaVersion) {
+        Optional<Element> properties = pom.section("project/properties");
 
-                if (!existingProps.contains("<lombok.version>")) {
-                    String newProps = "\n\t\t<lombok.version>1.18.36</lombok.version>";
-                    pomContent = pomContent.substring(0, propertiesEnd) + newProps + pomContent.substring(propertiesEnd);
-                }
+        if (properties.isPresent()) {
+            for (String name : List.of("java.version", "maven.compiler.source", "maven.compiler.target")) {
+                pom.property(name).ifPresent(property -> pom.replaceContent(property, javaVersion));
             }
-        } else {
-            String properties = generatePropertiesSection(javaVersion, versions);
-            int projectEnd = pomContent.indexOf("</project>");
-            if (projectEnd != -1) {
-                int dependenciesStart = pomContent.indexOf("<dependencies>");
-                if (dependenciesStart != -1) {
-                    return pomContent.substring(0, dependenciesStart) + properties + pomContent.substring(dependenciesStart);
-                }
-                return pomContent.substring(0, projectEnd) + properties + pomContent.substring(projectEnd);
+            if (pom.property("lombok.version").isEmpty()) {
+                pom.appendTo(properties.get(), new Block().element("lombok.version", LOMBOK_VERSION));
             }
+            return;
         }
-        return pomContent;
-    }
 
-    private String generatePropertiesSection(String javaVersion, LibraryVersions versions) {
-        return """
-                    <properties>
-                        <java.version>%s</java.version>
-                        <maven.compiler.source>%s</maven.compiler.source>
-                        <maven.compiler.target>%s</maven.compiler.target>
-                        <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>
-                        <project.reporting.outputEncoding>UTF-8</project.reporting.outputEncoding>
-                        <lombok.version>1.18.36</lombok.version>
-                    </properties>
-                """.formatted(javaVersion, javaVersion, javaVersion);
+        Block section = new Block()
+                .open("properties")
+                .element("java.version", javaVersion)
+                .element("maven.compiler.source", javaVersion)
+                .element("maven.compiler.target", javaVersion)
+                .element("project.build.sourceEncoding", "UTF-8")
+                .element("project.reporting.outputEncoding", "UTF-8")
+                .element("lombok.version", LOMBOK_VERSION)
+                .close("properties");
+
+        pom.section("project/dependencies").ifPresentOrElse(
+                dependencies -> pom.insertBefore(dependencies, section),
+                () -> pom.appendTo(pom.section("project").orElseThrow(), section));
     }
 
-    private String ensureSpringBootBom(String pomContent, String springBootVersion) {
-        if (pomContent.contains("spring-boot-dependencies") && pomContent.contains("<dependencyManagement>")) {
+    private void planSpringBootBom(PomDocument pom, String springBootVersion) {
+        if (pom.declares("project/dependencyManagement/dependencies", "spring-boot-dependencies")) {
             log.debug("Spring Boot BOM already exists in dependencyManagement");
-            return pomContent;
+            return;
         }
 
-        if (pomContent.contains("<dependencyManagement>")) {
-            int dmEnd = pomContent.indexOf("</dependencyManagement>");
-            int depsEnd = pomContent.lastIndexOf("</dependencies>", dmEnd);
-
-            if (depsEnd != -1 && depsEnd < dmEnd) {
-                String bomDependency = """
-                            <dependency>
-                                <groupId>org.springframework.boot</groupId>
-                                <artifactId>spring-boot-dependencies</artifactId>
-                                <version>%s</version>
-                                <type>pom</type>
-                                <scope>import</scope>
-                            </dependency>
-                    """.formatted(springBootVersion);
-
-                return pomContent.substring(0, depsEnd) + bomDependency + pomContent.substring(depsEnd);
-            }
+        Block bom = new Block()
+                .open("dependency")
+                .element("groupId", "org.springframework.boot")
+                .element("artifactId", "spring-boot-dependencies")
+                .element("version", springBootVersion)
+                .element("type", "pom")
+                .element("scope", "import")
+                .close("dependency");
+
+        Optional<Element> managed = pom.section("project/dependencyManagement/dependencies");
+        if (managed.isPresent()) {
+            pom.appendTo(managed.get(), bom);
+            return;
         }
 
-        String bomSection = """
-                    <dependencyManagement>
-                        <dependencies>
-                            <dependency>
-                                <groupId>org.springframework.boot</groupId>
-                                <artifactId>spring-boot-dependencies</artifactId>
-                                <version>%s</version>
-                                <type>pom</type>
-                                <scope>import</scope>
-                            </dependency>
-                        </dependencies>
-                    </dependencyManagement>
-
-                """.formatted(springBootVersion);
-
-        int dependenciesStart = pomContent.indexOf("<dependencies>");
-        if (dependenciesStart != -1) {
-            return pomContent.substring(0, dependenciesStart) + bomSection + pomContent.substring(dependenciesStart);
+        Optional<Element> dependencies = pom.section("project/dependencies");
+        if (dependencies.isEmpty()) {
+            log.warn("Could not find <dependencies> tag to inject BOM");
+            return;
         }
 
-        log.warn("Could not find <dependencies> tag to inject BOM");
-        return pomContent;
+        Block section = new Block()
+                .open("dependencyManagement")
+                .open("dependencies")
+                .append(bom)
+                .close("dependencies")
+                .close("dependencyManagement");
+
+        pom.section("project/dependencyManagement").ifPresentOrElse(
+                dependencyManagement -> pom.appendTo(dependencyManagement, new Block().open("dependencies").append(bom).close("dependencies")),
+                () -> pom.insertBefore(dependencies.get(), section));
     }
 
-    private String injectFeatureDependencies(String pomContent, ProjectFeatures features, LibraryVersions versions) {
-        int lastDependenciesEnd = findLastDependenciesEndTag(pomContent);
-        if (lastDependenciesEnd == -1) {
+    private void planFeatureDependencies(PomDocument pom, ProjectConfig config) {
+        Optional<Element> dependencies = pom.section("project/dependencies");
+        if (dependencies.isEmpty()) {
             log.warn("Could not find main </dependencies> tag in pom.xml");
-            return pomContent;
+            return;
         }
 
-        List<String> featureDependencies = getActiveFeaturesAsDependencyIds(features);
+        Block injections = new Block();
+        Set<String> injected = new HashSet<>();
 
-        StringBuilder injections = new StringBuilder();
-
-        for (String dependencyId : featureDependencies) {
-            configRegistry.getRule(dependencyId).ifPresent(rule -> {
-                if (rule.build() != null && rule.build().maven() != null &&
-                    rule.build().maven().dependencies() != null &&
-                    !rule.build().maven().dependencies().isEmpty()) {
-                    injections.append(generateMavenDependenciesXml(rule.build().maven().dependencies()));
+        for (DependencyRule rule : configRegistry.resolve(config).rules()) {
+            if (config.dependencies().contains(rule.id()) || rule.build() == null || rule.build().maven() == null ||
+                rule.build().maven().dependencies() == null) {
+                continue;
+            }
+            for (MavenDependency dep : rule.build().maven().dependencies()) {
+                if (!pom.declares("project/dependencies", dep.artifactId()) && injected.add(dep.artifactId())) {
+                    appendDependency(injections, dep);
                 }
-            });
+            }
         }
 
-        if (injections.length() > 0) {
-            return pomContent.substring(0, lastDependenciesEnd) + injections + pomContent.substring(lastDependenciesEnd);
+        if (!injections.isEmpty()) {
+            pom.appendTo(dependencies.get(), injections);
         }
-
-        return pomContent;
     }
 
-    private List<String> getActiveFeaturesAsDependencyIds(ProjectFeatures features) {
-        List<String> dependencies = new ArrayList<>();
-
-        if (features.enableJwt()) {
-            dependencies.add("jwt");
-        }
-        if (features.enableSwagger()) {
-            dependencies.add("swagger");
-        }
-        if (features.enableMapStruct()) {
-            dependencies.add("mapstruct");
-        }
-
-        return dependencies;
+    private void appendDependency(Block xml, MavenDependency dep) {
+        xml.open("dependency")
+                .element("groupId", dep.groupId())
+                .element("artifactId", dep.artifactId())
+                .element("version", dep.version())
+                .element("scope", dep.scope())
+                .close("dependency");
     }
 
-    private String generateMavenDependenciesXml(List<MavenDependency> dependencies) {
-        StringBuilder xml = new StringBuilder();
-        for (MavenDependency dep : dependencies) {
-            xml.append("        <dependency>\n");
-            xml.append("            <groupId>").append(dep.groupId()).append("</groupId>\n");
-            xml.append("            <artifactId>").append(dep.artifactId()).append("</artifactId>\n");
-
-            if (dep.version() != null && !dep.version().isEmpty()) {
-                xml.append("            <version>").append(dep.version()).append("</version>\n");
+    private void planBuild(PomDocument pom, ProjectConfig config, LibraryVersions versions) {
+        List<AnnotationProcessor> processors = determineAnnotationProcessors(pom, config, versions);
+        Block plugins = new Block();
+        Set<String> planned = new HashSet<>();
+
+        if (!processors.isEmpty()) {
+            log.info("Configuring {} annotation processors for Maven Compiler Plugin", processors.size());
+
+            if (pom.compilerPlugin("plugin").isPresent()) {
+                updateExistingCompilerPlugin(pom, processors);
+            } else {
+                plugins.open("plugin")
+                        .element("groupId", "org.apache.maven.plugins")
+                        .element("artifactId", "maven-compiler-plugin")
+                        .element("version", "3.13.0")
+                        .open("configuration")
+                        .element("source", config.javaVersion())
+                        .element("target", config.javaVersion())
+                        .append(processorPaths(processors))
+                        .close("configuration")
+                        .close("plugin");
             }
-
-            if (dep.scope() != null && !dep.scope().isEmpty()) {
-                xml.append("            <scope>").append(dep.scope()).append("</scope>\n");
-            }
-
-            xml.append("        </dependency>\n");
-        }
-        return xml.toString();
-    }
-
-    private int findLastDependenciesEndTag(String pomContent) {
-        int buildStart = pomContent.indexOf("<build>");
-        if (buildStart == -1) {
-            buildStart = pomContent.length();
-        }
-
-        int dependencyManagementStart = pomContent.indexOf("<dependencyManagement>");
-
-        int searchStart = 0;
-        if (dependencyManagementStart != -1) {
-            int dependencyManagementEnd = pomContent.indexOf("</dependencyManagement>", dependencyManagementStart);
-            if (dependencyManagementEnd != -1) {
-                searchStart = dependencyManagementEnd;
-            }
-        }
-
-        int dependenciesEnd = pomContent.indexOf("</dependencies>", searchStart);
-
-        if (dependenciesEnd == -1 || dependenciesEnd > buildStart) {
-            return -1;
+            planned.add("maven-compiler-plugin");
         }
 
-        return dependenciesEnd;
-    }
-
-    private String ensurePluginsSection(String pomContent) {
-        if (!pomContent.contains("<build>")) {
-            String buildSection = """
-
-                        <build>
-                            <plugins>
-                            </plugins>
-                        </build>
-                    """;
+        List<MavenPlugin> mavenPlugins = pluginConfigService.generateMavenPlugins(
+                config.springBootVersion(),
+                config.dependencies(),
+                config.features()
+        );
 
-            int projectEnd = pomContent.indexOf("</project>");
-            if (projectEnd != -1) {
-                return pomContent.substring(0, projectEnd) + buildSection + pomContent.substring(projectEnd);
-            }
-        } else if (!pomContent.contains("<plugins>")) {
-            String pluginsSection = """
-                            <plugins>
-                            </plugins>
-                    """;
-
-            int buildEnd = pomContent.indexOf("</build>");
-            if (buildEnd != -1) {
-                return pomContent.substring(0, buildEnd) + pluginsSection + pomContent.substring(buildEnd);
+        for (MavenPlugin plugin : mavenPlugins) {
+            if (!pom.declares("project/build/plugins", plugin.artifactId()) && planned.add(plugin.artifactId())) {
+                plugins.open("plugin")
+                        .element("groupId", plugin.groupId())
+                        .element("artifactId", plugin.artifactId())
+                        .element("version", plugin.version())
+                        .fragment(plugin.configuration())
+                        .close("plugin");
             }
         }
 
-        return pomContent;
-    }
-
-    private String configureAnnotationProcessors(String pomContent, ProjectConfig config, LibraryVersions versions) {
-        List<AnnotationProcessor> processors = determineAnnotationProcessors(pomContent, config, versions);
-
-        if (processors.isEmpty()) {
-            return pomContent;
-        }
-
-        log.info("Configuring {} annotation processors for Maven Compiler Plugin", processors.size());
+        Optional<Element> pluginsSection = pom.section("project/build/plugins");
+        Optional<Element> build = pom.section("project/build");
 
-        if (!pomContent.contains("maven-compiler-plugin")) {
-            String compilerPlugin = buildCompilerPluginWithProcessors(config.javaVersion(), processors);
-            int pluginsEnd = pomContent.indexOf("</plugins>");
-            if (pluginsEnd != -1) {
-                return pomContent.substring(0, pluginsEnd) + compilerPlugin + pomContent.substring(pluginsEnd);
+        if (pluginsSection.isPresent()) {
+            if (!plugins.isEmpty()) {
+                pom.appendTo(pluginsSection.get(), plugins);
             }
+        } else if (build.isPresent()) {
+            pom.appendTo(build.get(), new Block().open("plugins").append(plugins).close("plugins"));
         } else {
-            return updateExistingCompilerPlugin(pomContent, processors);
+            pom.appendTo(pom.section("project").orElseThrow(),
+                    new Block().open("build").open("plugins").append(plugins).close("plugins").close("build"));
         }
-
-        return pomContent;
     }
 
-    private List<AnnotationProcessor> determineAnnotationProcessors(String pomContent, ProjectConfig config, LibraryVersions versions) {
+    private List<AnnotationProcessor> determineAnnotationProcessors(PomDocument pom, ProjectConfig config, LibraryVersions versions) {
         List<AnnotationProcessor> processors = new ArrayList<>();
         Set<String> dependencies = config.dependencies();
         ProjectFeatures features = config.features();
 
-        boolean hasLombok = pomContent.contains("lombok");
         boolean hasMapStruct = features.enableMapStruct();
         boolean hasQueryDsl = dependencies.stream().anyMatch(dep -> dep.contains("querydsl"));
         boolean hasHibernateModelGen = dependencies.stream().anyMatch(dep -> dep.contains("hibernate") && dep.contains("jpamodelgen"));
-        boolean hasConfigProcessor = pomContent.contains("spring-boot-configuration-processor");
+        boolean hasConfigProcessor = pom.declares("project/dependencies", "spring-boot-configuration-processor");
 
-        if (hasLombok && hasMapStruct) {
+        if (hasMapStruct) {
             processors.add(new AnnotationProcessor("org.projectlombok", "lombok", "${lombok.version}", null));
             processors.add(new AnnotationProcessor("org.projectlombok", "lombok-mapstruct-binding", versions.lombokMapstructBindingVersion(), null));
             processors.add(new AnnotationProcessor("org.mapstruct", "mapstruct-processor", versions.mapStructVersion(), null));
-        } else if (hasLombok) {
+        } else {
             processors.add(new AnnotationProcessor("org.projectlombok", "lombok", "${lombok.version}", null));
-        } else if (hasMapStruct) {
-            processors.add(new AnnotationProcessor("org.mapstruct", "mapstruct-processor", versions.mapStructVersion(), null));
         }
 
         if (hasQueryDsl) {
@@ -324,142 +246,37 @@ public class PomManipulationService {
         return "5.1.0";
     }
 
-    private String buildCompilerPluginWithProcessors(String javaVersion, List<AnnotationProcessor> processors) {
-        StringBuilder plugin = new StringBuilder("""
-                            <plugin>
-                                <groupId>org.apache.maven.plugins</groupId>
-                                <artifactId>maven-compiler-plugin</artifactId>
-                                <version>3.13.0</version>
-                                <configuration>
-                                    <source>%s</source>
-                                    <target>%s</target>
-                                    <annotationProcessorPaths>
-                """.formatted(javaVersion, javaVersion));
-
-        for (AnnotationProcessor processor : processors) {
-            plugin.append(formatProcessorPath(processor));
+    private void updateExistingCompilerPlugin(PomDocument pom, List<AnnotationProcessor> processors) {
+        Optional<Element> paths = pom.compilerPlugin("annotationProcessorPaths");
+        if (paths.isPresent()) {
+            pom.replaceChildren(paths.get(), processorEntries(processors));
+            return;
         }
 
-        plugin.append("""
-                                    </annotationProcessorPaths>
-                                </configuration>
-                            </plugin>
-                """);
-
-        return plugin.toString();
+        pom.compilerPlugin("configuration").ifPresentOrElse(
+                configuration -> pom.appendTo(configuration, processorPaths(processors)),
+                () -> pom.appendTo(pom.compilerPlugin("plugin").orElseThrow(),
+                        new Block().open("configuration").append(processorPaths(processors)).close("configuration")));
     }
 
-    private String updateExistingCompilerPlugin(String pomContent, List<AnnotationProcessor> processors) {
-        int compilerPluginStart = pomContent.indexOf("<artifactId>maven-compiler-plugin</artifactId>");
-        if (compilerPluginStart == -1) {
-            return pomContent;
-        }
-
-        int pluginStart = pomContent.lastIndexOf("<plugin>", compilerPluginStart);
-        int pluginEnd = pomContent.indexOf("</plugin>", compilerPluginStart) + "</plugin>".length();
-
-        if (pluginStart == -1 || pluginEnd == -1) {
-            return pomContent;
-        }
-
-        String existingPlugin = pomContent.substring(pluginStart, pluginEnd);
-
-        if (existingPlugin.contains("<annotationProcessorPaths>")) {
-            int pathsStart = existingPlugin.indexOf("<annotationProcessorPaths>");
-            int pathsEnd = existingPlugin.indexOf("</annotationProcessorPaths>") + "</annotationProcessorPaths>".length();
-
-            StringBuilder newPaths = new StringBuilder("<annotationProcessorPaths>\n");
-            for (AnnotationProcessor processor : processors) {
-                newPaths.append(formatProcessorPath(processor));
-            }
-            newPaths.append("                        </annotationProcessorPaths>");
-
-            String updatedPlugin = existingPlugin.substring(0, pathsStart) + newPaths + existingPlugin.substring(pathsEnd);
-            return pomContent.substring(0, pluginStart) + updatedPlugin + pomContent.substring(pluginEnd);
-        } else {
-            int configEnd = existingPlugin.lastIndexOf("</configuration>");
-            if (configEnd != -1) {
-                StringBuilder paths = new StringBuilder("                        <annotationProcessorPaths>\n");
-                for (AnnotationProcessor processor : processors) {
-                    paths.append(formatProcessorPath(processor));
-                }
-                paths.append("                        </annotationProcessorPaths>\n                    ");
-
-                String updatedPlugin = existingPlugin.substring(0, configEnd) + paths + existingPlugin.substring(configEnd);
-                return pomContent.substring(0, pluginStart) + updatedPlugin + pomContent.substring(pluginEnd);
-            }
-        }
-
-        return pomContent;
+    private Block processorPaths(List<AnnotationProcessor> processors) {
+        return new Block()
+                .open("annotationProcessorPaths")
+                .append(processorEntries(processors))
+                .close("annotationProcessorPaths");
     }
 
-    private String formatProcessorPath(AnnotationProcessor processor) {
-        StringBuilder path = new StringBuilder("""
-                                        <path>
-                                            <groupId>%s</groupId>
-                                            <artifactId>%s</artifactId>
-                """.formatted(processor.groupId, processor.artifactId));
-
-        if (processor.version != null) {
-            path.append("                            <version>").append(processor.version).append("</version>\n");
-        }
-
-        if (processor.classifier != null) {
-            path.append("                            <classifier>").append(processor.classifier).append("</classifier>\n");
-        }
-
-        path.append("                        </path>\n");
-        return path.toString();
-    }
-
-    private String injectPlugins(String pomContent, ProjectConfig config) {
-        List<MavenPlugin> plugins = pluginConfigService.generateMavenPlugins(
-                config.springBootVersion(),
-                config.dependencies(),
-                config.features()
-        );
-
-        int pluginsEnd = pomContent.indexOf("</plugins>");
-        if (pluginsEnd == -1) {
-            log.warn("Could not find </plugins> tag in pom.xml");
-            return pomContent;
-        }
-
-        StringBuilder pluginsXml = new StringBuilder();
-        for (MavenPlugin plugin : plugins) {
-            if (!pomContent.contains("<artifactId>" + plugin.artifactId() + "</artifactId>")) {
-                pluginsXml.append("""
-                            <plugin>
-                                <groupId>%s</groupId>
-                                <artifactId>%s</artifactId>
-                                <version>%s</version>
-                %s            </plugin>
-                """.formatted(
-                        plugin.groupId(),
-                        plugin.artifactId(),
-                        plugin.version(),
-                        plugin.configuration() != null ? plugin.configuration() : ""
-                ));
-            }
-        }
-
-        if (pluginsXml.length() > 0) {
-            return pomContent.substring(0, pluginsEnd) + pluginsXml + pomContent.substring(pluginsEnd);
+    private Block processorEntries(List<AnnotationProcessor> processors) {
+        Block paths = new Block();
+        for (AnnotationProcessor processor : processors) {
+            paths.open("path")
+                    .element("groupId", processor.groupId())
+                    .element("artifactId", processor.artifactId())
+                    .element("version", processor.version())
+                    .element("classifier", processor.classifier())
+                    .close("path");
         }
-
-        return pomContent;
-    }
-
-    private String cleanupWhitespace(String pomContent) {
-        return pomContent
-                .replaceAll("\n{3,}", "\n\n")
-                .replaceAll("(?m)^[ \\t]+$", "")
-                .replaceAll("(?m)\\t+\\n", "\\n")
-                .replaceAll("[ \\t]+\\n", "\\n")
-                .replaceAll("</dependency>\\n+<dependency>", "</dependency>\\n\\t\\t<dependency>")
-                .replaceAll("</plugin>\\n+<plugin>", "</plugin>\\n\\t\\t\\t<plugin>")
-                .replaceAll("</property>\\n+<property>", "</property>\\n\\t\\t<property>")
-                .trim();
+        return paths;
     }
 
     private record AnnotationProcessor(String groupId, String artifactId, String version, String classifier) {}
@@ -1,6 +1,6 @@
 package com.springcli.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
 import com.springcli.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,11 +18,11 @@ import java.util.stream.Collectors;
 public class PresetService {
 
     private static final String PRESET_DIR = System.getProperty("user.home") + "/.spring-cli/presets";
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
     private final Path presetDirPath;
 
-    public PresetService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public PresetService(JsonCodec jsonCodec) {
+        this.jsonCodec = jsonCodec;
         this.presetDirPath = Paths.get(PRESET_DIR);
         ensurePresetDirectoryExists();
     }
@@ -69,7 +69,7 @@ public class PresetService {
             );
 
             String fileName = sanitizeFileName(preset.name()) + ".json";
-            objectMapper.writerWithDefaultPrettyPrinter()
+            jsonCodec.prettyWriter(Preset.class)
                     .writeValue(presetDirPath.resolve(fileName).toFile(), customPreset);
             log.info("Preset '{}' saved successfully", preset.name());
         } catch (IOException e) {
@@ -109,7 +109,7 @@ public class PresetService {
 
     private Optional<Preset> loadPresetFromFile(Path path) {
         try {
-            return Optional.of(objectMapper.readValue(path.toFile(), Preset.class));
+            return Optional.of(jsonCodec.reader(Preset.class).readValue(path.toFile()));
         } catch (IOException e) {
             return Optional.empty();
         }
@@ -2,20 +2,39 @@ package com.springcli.service;
 
 import com.springcli.client.SpringInitializrClient;
 import com.springcli.infra.filesystem.FileSystemService;
+import com.springcli.infra.filesystem.ProjectTree;
 import com.springcli.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.TeeInputStream;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,37 +46,67 @@ public class ProjectGeneratorService {
     private final FileSystemService fileSystemService;
     private final PomManipulationService pomManipulationService;
     private final GradleManipulationService gradleManipulationService;
+    private final SkeletonGeneratorService skeletonGeneratorService;
+    private final StarterCacheService starterCacheService;
+    private final ExecutorService generationExecutor;
+
+    private static final Consumer<GenerationEvent> NO_PROGRESS = event -> {};
 
     public void generateProject(ProjectConfig config) {
+        generateProject(config, NO_PROGRESS);
+    }
+
+    public void generateProject(ProjectConfig config, Consumer<GenerationEvent> progress) {
+        Path projectRoot = Paths.get(config.outputDirectory()).resolve(config.artifactId());
+        ProjectTree tree = buildProject(config, progress);
+
         try {
-            log.info("Starting project generation for: {}", config.artifactId());
+            long started = System.nanoTime();
+            fileSystemService.writeTree(tree, projectRoot);
+            progress.accept(GenerationEvent.of(GenerationStage.WRITE, tree.size(), started, projectRoot.toString()));
+            log.info("Project generated successfully at: {}", projectRoot);
+        } catch (IOException e) {
+            log.error("Failed to write project", e);
+            throw new RuntimeException("Failed to generate project: " + e.getMessage(), e);
+        }
+    }
 
-            Path baseOutputDir = Paths.get(config.outputDirectory());
-            Path tempZip = Files.createTempFile("spring-cli-", ".zip");
+    public ProjectTree buildProject(ProjectConfig config) {
+        return buildProject(config, NO_PROGRESS);
+    }
+
+    public ProjectTree buildProject(ProjectConfig config, Consumer<GenerationEvent> progress) {
+        try {
+            log.info("Starting project generation for: {}", config.artifactId());
 
-            initializrClient.downloadProject(config, tempZip);
-            fileSystemService.extractZip(tempZip, baseOutputDir);
+            ProjectTree tree = createSkeleton(config, progress);
+            TemplateContext context = buildTemplateContext(config);
+            TemplateView view = TemplateView.of(context);
 
-            Path projectRoot = resolveRealProjectRoot(baseOutputDir, config.artifactId());
+            Map<GenerationStage, List<Callable<String>>> stages = new EnumMap<>(GenerationStage.class);
+            List<Callable<String>> renderTasks = stages.computeIfAbsent(GenerationStage.RENDER, stage -> new ArrayList<>());
+            List<Callable<String>> opsTasks = stages.computeIfAbsent(GenerationStage.OPS, stage -> new ArrayList<>());
+            stages.put(GenerationStage.BUILD_FILE, List.of(() -> injectDependencies(config, tree)));
 
-            generateStructure(config, projectRoot);
-            injectDependencies(config, projectRoot);
-            generateConfigFiles(config, projectRoot);
+            planStructure(config, tree, context, view, renderTasks);
+            planConfigFiles(tree, view, renderTasks);
 
             if (config.features().enableDocker()) {
-                generateDockerFiles(config, projectRoot);
+                planDockerFiles(tree, view, opsTasks);
             }
             if (config.features().enableKubernetes()) {
-                generateKubernetesFiles(config, projectRoot);
+                planKubernetesFiles(tree, view, opsTasks);
             }
             if (config.features().enableCiCd()) {
-                generateCiCdFiles(config, projectRoot);
+                planCiCdFiles(config, tree, opsTasks);
             }
 
-            generateGitignore(config, projectRoot);
-            Files.deleteIfExists(tempZip);
+            planGitignore(tree, view, opsTasks);
 
-            log.info("Project generated successfully at: {}", projectRoot);
+            int taskCount = runPipeline(stages, progress);
+
+            log.info("Project {} staged in memory ({} files, {} pipeline tasks)", config.artifactId(), tree.size(), taskCount);
+            return tree;
 
         } catch (Exception e) {
             log.error("Failed to generate project", e);
@@ -65,40 +114,134 @@ public class ProjectGeneratorService {
         }
     }
 
-    private void generateStructure(ProjectConfig config, Path projectRoot) throws IOException {
-        Path srcMainJava = findJavaSourceRoot(projectRoot);
-        Path basePackagePath = srcMainJava.resolve(config.packageName().replace('.', '/'));
+    private ProjectTree createSkeleton(ProjectConfig config, Consumer<GenerationEvent> progress) throws IOException {
+        if (skeletonGeneratorService.prefersLocal(config)) {
+            return generateLocalSkeleton(config, progress);
+        }
 
-        TemplateContext context = buildTemplateContext(config);
-        Architecture arch = config.architecture();
+        try {
+            return downloadSkeleton(config, progress);
+        } catch (RuntimeException | IOException e) {
+            if (!skeletonGeneratorService.supports(config)) {
+                throw e;
+            }
+            log.warn("Spring Initializr unavailable, falling back to the bundled skeleton: {}", e.getMessage());
+            return generateLocalSkeleton(config, progress);
+        }
+    }
+
+    private ProjectTree generateLocalSkeleton(ProjectConfig config, Consumer<GenerationEvent> progress) throws IOException {
+        long started = System.nanoTime();
+        ProjectTree tree = skeletonGeneratorService.generateSkeleton(config);
+        progress.accept(GenerationEvent.of(GenerationStage.EXTRACT, tree.size(), started, "bundled skeleton"));
+        return tree;
+    }
+
+    private ProjectTree downloadSkeleton(ProjectConfig config, Consumer<GenerationEvent> progress) throws IOException {
+        long started = System.nanoTime();
+        Map<String, String> params = initializrClient.buildQueryParams(config);
+        Optional<byte[]> cached = starterCacheService.getCachedStarter(params);
+
+        if (cached.isPresent()) {
+            progress.accept(GenerationEvent.of(GenerationStage.DOWNLOAD, 0, started, "starter cache hit"));
+            long extractStarted = System.nanoTime();
+            ProjectTree tree = fileSystemService.readZip(new ByteArrayInputStream(cached.get()), config.artifactId());
+            progress.accept(GenerationEvent.of(GenerationStage.EXTRACT, tree.size(), extractStarted, null));
+            return tree;
+        }
 
-        for (ArchitectureBlueprint blueprint : arch.getBlueprints()) {
-            String layerPath = arch.getPathForLayer(blueprint.layer());
-            String relativePath = layerPath.replace("{feature}", "demo").replace('.', '/');
+        ByteArrayOutputStream zipCopy = new ByteArrayOutputStream();
+        ProjectTree tree;
+        TimedInputStream network = new TimedInputStream(initializrClient.streamProject(config));
+        long connectNanos = System.nanoTime() - started;
+        try (InputStream body = new TeeInputStream(network, zipCopy)) {
+            tree = fileSystemService.readZip(body, config.artifactId());
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+
+        long downloadNanos = connectNanos + network.readNanos();
+        long extractNanos = Math.max(0, System.nanoTime() - started - downloadNanos);
+        progress.accept(new GenerationEvent(GenerationStage.DOWNLOAD, 0, downloadNanos / 1_000_000, zipCopy.size() + " bytes"));
+        progress.accept(new GenerationEvent(GenerationStage.EXTRACT, tree.size(), extractNanos / 1_000_000, null));
 
-            String fileName = blueprint.filenameSuffix().startsWith(".")
-                    ? context.entityName() + blueprint.filenameSuffix()
-                    : context.entityName() + blueprint.filenameSuffix();
+        starterCacheService.cacheStarter(params, zipCopy.toByteArray());
+        return tree;
+    }
 
-            generateClass(basePackagePath, relativePath, fileName, blueprint.template(), context);
+    private int runPipeline(Map<GenerationStage, List<Callable<String>>> stages, Consumer<GenerationEvent> progress) throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>();
+        stages.forEach((stage, stageTasks) -> {
+            if (!stageTasks.isEmpty()) {
+                StageTimer timer = new StageTimer(stage, stageTasks.size(), progress);
+                stageTasks.forEach(task -> tasks.add(timer.wrap(task)));
+            }
+        });
+
+        List<Future<String>> results = generationExecutor.invokeAll(tasks);
+
+        for (Future<String> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
+        return tasks.size();
+    }
 
-        generateFeatureFiles(config, basePackagePath, context);
+    private void emit(List<Callable<String>> tasks, ProjectTree tree, String target, FileRenderer renderer) {
+        tasks.add(() -> {
+            try (Writer writer = tree.openWriter(target)) {
+                renderer.render(writer);
+            }
+            return target;
+        });
     }
 
-    private void generateClass(Path basePackagePath, String relativePath, String fileName, String templateName, TemplateContext context) throws IOException {
-        Path directory = basePackagePath.resolve(relativePath);
-        fileSystemService.createDirectories(directory);
+    private void planStructure(ProjectConfig config, ProjectTree tree, TemplateContext context, TemplateView view,
+                               List<Callable<String>> tasks) throws IOException {
+        String basePackagePath = findJavaSourceRoot(tree) + "/" + config.packageName().replace('.', '/');
+
+        Architecture arch = config.architecture();
+        boolean featureSliced = arch.getLayerMappings().values().stream().anyMatch(path -> path.contains("{feature}"));
+        Map<String, TemplateView> packageViews = new HashMap<>();
+
+        for (String entity : config.entities()) {
+            String feature = entity.toLowerCase(Locale.ROOT);
+            TemplateView classView = packageViews
+                    .computeIfAbsent(featureSliced ? feature : "", key -> view.with("pkg", buildPackageMap(context, (layer, path) -> path.replace("{feature}", feature))))
+                    .with("entityName", entity);
+
+            for (ArchitectureBlueprint blueprint : arch.getBlueprints()) {
+                String layerPath = arch.getPathForLayer(blueprint.layer());
+                String relativePath = layerPath.replace("{feature}", feature).replace('.', '/');
+
+                String fileName = entity + blueprint.filenameSuffix();
+
+                planClass(tree, basePackagePath, relativePath, fileName, blueprint.template(), context, classView, tasks);
+            }
+        }
+
+        TemplateView sharedView = view.with("pkg", buildPackageMap(context, this::sharedLayerPath));
+        planFeatureFiles(config, tree, basePackagePath, context, sharedView, tasks);
+    }
 
+    private void planClass(ProjectTree tree, String basePackagePath, String relativePath, String fileName, String templateName,
+                           TemplateContext context, TemplateView classView, List<Callable<String>> tasks) {
+        String target = basePackagePath + (relativePath.isEmpty() ? "" : "/" + relativePath) + "/" + fileName;
         String currentPackage = context.packageName() + (relativePath.isEmpty() ? "" : "." + relativePath.replace("/", "."));
 
-        Map<String, Object> fileProps = new HashMap<>(context.additionalProperties());
-        fileProps.put("currentPackage", currentPackage);
+        emit(tasks, tree, target, writer -> templateService.renderJavaClass(templateName, classView.with("currentPackage", currentPackage), writer));
+    }
 
+    private Map<String, String> buildPackageMap(TemplateContext context, BinaryOperator<String> layerPath) {
         Map<String, String> packageMap = context.architecture().getLayerMappings().entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> resolvePackagePath(context.packageName(), entry.getValue())
+                        entry -> resolvePackagePath(context.packageName(), layerPath.apply(entry.getKey(), entry.getValue()))
                 ));
 
         packageMap.putIfAbsent("service", packageMap.get("usecase"));
@@ -107,104 +250,77 @@ public class ProjectGeneratorService {
         packageMap.putIfAbsent("repository", packageMap.get("port-out"));
         packageMap.putIfAbsent("port-out", packageMap.get("repository"));
 
-        fileProps.put("pkg", packageMap);
-
-        TemplateContext fileContext = new TemplateContext(
-                context.packageName(), context.basePackage(), context.projectName(),
-                context.entityName(), context.architecture(), context.javaVersion(),
-                context.buildTool(), context.features(), fileProps
-        );
+        return Collections.unmodifiableMap(packageMap);
+    }
 
-        String content = templateService.renderJavaClass(templateName, fileContext);
-        fileSystemService.writeFile(directory.resolve(fileName), content);
+    private String sharedLayerPath(String layer, String path) {
+        return path.contains("{feature}") ? "shared/" + layer : path;
     }
 
     private String resolvePackagePath(String rootPackage, String path) {
-        String cleanedPath = path.replace("{feature}", "demo").replace("/", ".");
+        String cleanedPath = path.replace("/", ".");
         return rootPackage + (cleanedPath.isEmpty() ? "" : "." + cleanedPath);
     }
 
-    private void generateFeatureFiles(ProjectConfig config, Path basePackagePath, TemplateContext context) throws IOException {
+    private void planFeatureFiles(ProjectConfig config, ProjectTree tree, String basePackagePath, TemplateContext context,
+                                  TemplateView sharedView, List<Callable<String>> tasks) {
         Architecture arch = context.architecture();
         ProjectFeatures features = config.features();
 
         for (Architecture.FeatureBlueprint blueprint : arch.getFeatureBlueprints()) {
-
             if (blueprint.toggle().isEnabled(features)) {
+                String layerPath = arch.getLayerMappings().getOrDefault(blueprint.layer(), blueprint.layer());
+                String relativePath = sharedLayerPath(blueprint.layer(), layerPath);
 
-                generateFeatureClass(
-                        arch,
-                        basePackagePath,
-                        context,
-                        blueprint.layer(),
-                        blueprint.filename(),
-                        blueprint.template()
-                );
+                planClass(tree, basePackagePath, relativePath, blueprint.filename(), blueprint.template(), context, sharedView, tasks);
             }
         }
     }
 
-    private void generateFeatureClass(Architecture arch, Path basePackagePath, TemplateContext context, String layerName, String fileName, String templateName) throws IOException {
-
-        String layerPath = arch.getPathForLayer(layerName);
-        String relativePath = layerPath.replace("{feature}", "demo").replace('.', '/');
-
-        generateClass(basePackagePath, relativePath, fileName, templateName, context);
-    }
-
-    private void injectDependencies(ProjectConfig config, Path projectRoot) throws IOException {
-        Path pomPath = projectRoot.resolve("pom.xml");
-        Path gradlePath = projectRoot.resolve("build.gradle");
-        Path gradleKtsPath = projectRoot.resolve("build.gradle.kts");
+    private String injectDependencies(ProjectConfig config, ProjectTree tree) {
+        Optional<String> pom = tree.read("pom.xml");
+        Optional<String> gradle = tree.read("build.gradle");
+        Optional<String> gradleKts = tree.read("build.gradle.kts");
 
-        if (Files.exists(pomPath)) {
+        if (pom.isPresent()) {
             log.info("Enhancing Maven pom.xml with complete auto-configuration");
-            String pomContent = fileSystemService.readFile(pomPath);
-            String enhancedPom = pomManipulationService.enhancePomFile(pomContent, config);
-            fileSystemService.writeFile(pomPath, enhancedPom);
+            tree.put("pom.xml", pomManipulationService.enhancePomFile(pom.get(), config));
             log.info("Maven pom.xml enhanced successfully");
-        } else if (Files.exists(gradlePath)) {
+            return "pom.xml";
+        } else if (gradle.isPresent()) {
             log.info("Enhancing Gradle build.gradle with complete auto-configuration");
-            String gradleContent = fileSystemService.readFile(gradlePath);
-            String enhancedGradle = gradleManipulationService.enhanceGradleFile(gradleContent, config);
-            fileSystemService.writeFile(gradlePath, enhancedGradle);
+            tree.put("build.gradle", gradleManipulationService.enhanceGradleFile(gradle.get(), config));
             log.info("Gradle build.gradle enhanced successfully");
-        } else if (Files.exists(gradleKtsPath)) {
+            return "build.gradle";
+        } else if (gradleKts.isPresent()) {
             log.info("Enhancing Gradle build.gradle.kts with complete auto-configuration");
-            String gradleContent = fileSystemService.readFile(gradleKtsPath);
-            String enhancedGradle = gradleManipulationService.enhanceGradleFile(gradleContent, config);
-            fileSystemService.writeFile(gradleKtsPath, enhancedGradle);
+            tree.put("build.gradle.kts", gradleManipulationService.enhanceGradleFile(gradleKts.get(), config, GradleScript.Dialect.KOTLIN));
             log.info("Gradle build.gradle.kts enhanced successfully");
+            return "build.gradle.kts";
         }
+        return null;
     }
 
-    private void generateConfigFiles(ProjectConfig config, Path projectRoot) throws IOException {
-        Path resourcesPath = projectRoot.resolve("src/main/resources");
-        TemplateContext context = buildTemplateContext(config);
+    private void planConfigFiles(ProjectTree tree, TemplateView view, List<Callable<String>> tasks) {
+        String resourcesPath = "src/main/resources/";
 
-        fileSystemService.writeFile(resourcesPath.resolve("application.yml"), templateService.renderConfig("application", context));
-        fileSystemService.writeFile(resourcesPath.resolve("application-dev.yml"), templateService.renderConfig("application-dev", context));
-        fileSystemService.writeFile(resourcesPath.resolve("application-prod.yml"), templateService.renderConfig("application-prod", context));
-        fileSystemService.writeFile(resourcesPath.resolve("application-test.yml"), templateService.renderConfig("application-test", context));
+        emit(tasks, tree, resourcesPath + "application.yml", writer -> templateService.renderConfig("application", view, writer));
+        emit(tasks, tree, resourcesPath + "application-dev.yml", writer -> templateService.renderConfig("application-dev", view, writer));
+        emit(tasks, tree, resourcesPath + "application-prod.yml", writer -> templateService.renderConfig("application-prod", view, writer));
+        emit(tasks, tree, resourcesPath + "application-test.yml", writer -> templateService.renderConfig("application-test", view, writer));
     }
 
-    private void generateDockerFiles(ProjectConfig config, Path projectRoot) throws IOException {
-        TemplateContext context = buildTemplateContext(config);
-        fileSystemService.writeFile(projectRoot.resolve("Dockerfile"), templateService.renderOps("Dockerfile", context));
-        fileSystemService.writeFile(projectRoot.resolve("docker-compose.yml"), templateService.renderOps("docker-compose", context));
+    private void planDockerFiles(ProjectTree tree, TemplateView view, List<Callable<String>> tasks) {
+        emit(tasks, tree, "Dockerfile", writer -> templateService.renderOps("Dockerfile", view, writer));
+        emit(tasks, tree, "docker-compose.yml", writer -> templateService.renderOps("docker-compose", view, writer));
     }
 
-    private void generateKubernetesFiles(ProjectConfig config, Path projectRoot) throws IOException {
-        Path k8sDir = projectRoot.resolve("k8s");
-        fileSystemService.createDirectories(k8sDir);
-        TemplateContext context = buildTemplateContext(config);
-        fileSystemService.writeFile(k8sDir.resolve("deployment.yml"), templateService.renderOps("kubernetes-deployment", context));
+    private void planKubernetesFiles(ProjectTree tree, TemplateView view, List<Callable<String>> tasks) {
+        emit(tasks, tree, "k8s/deployment.yml", writer -> templateService.renderOps("kubernetes-deployment", view, writer));
     }
 
-    private void generateCiCdFiles(ProjectConfig config, Path projectRoot) throws IOException {
-        Path githubDir = projectRoot.resolve(".github/workflows");
-        fileSystemService.createDirectories(githubDir);
-        String ciYml = """
+    private void planCiCdFiles(ProjectConfig config, ProjectTree tree, List<Callable<String>> tasks) {
+        emit(tasks, tree, ".github/workflows/ci.yml", writer -> writer.write("""
                 name: CI/CD Pipeline
                 on:
                   push:
@@ -225,13 +341,11 @@ public class ProjectGeneratorService {
                       run: mvn clean install
                     - name: Run tests
                       run: mvn test
-                """.formatted(config.javaVersion(), config.javaVersion());
-        fileSystemService.writeFile(githubDir.resolve("ci.yml"), ciYml);
+                """.formatted(config.javaVersion(), config.javaVersion())));
     }
 
-    private void generateGitignore(ProjectConfig config, Path projectRoot) throws IOException {
-        TemplateContext context = buildTemplateContext(config);
-        fileSystemService.writeFile(projectRoot.resolve(".gitignore"), templateService.renderOps("gitignore", context));
+    private void planGitignore(ProjectTree tree, TemplateView view, List<Callable<String>> tasks) {
+        emit(tasks, tree, ".gitignore", writer -> templateService.renderOps("gitignore", view, writer));
     }
 
     private TemplateContext buildTemplateContext(ProjectConfig config) {
@@ -242,7 +356,6 @@ public class ProjectGeneratorService {
                 .packageName(config.packageName())
                 .basePackage(config.packageName())
                 .projectName(config.artifactId())
-                .entityName("Demo")
                 .architecture(config.architecture())
                 .javaVersion(config.javaVersion())
                 .buildTool(config.buildTool())
@@ -259,33 +372,83 @@ public class ProjectGeneratorService {
         return null;
     }
 
-    private Path resolveRealProjectRoot(Path baseOutputDir, String artifactId) throws IOException {
-        Path expectedPath = baseOutputDir.resolve(artifactId);
+    private String findJavaSourceRoot(ProjectTree tree) throws IOException {
+        if (tree.hasDirectory("src/main/java")) {
+            return "src/main/java";
+        }
+        throw new IOException("Could not find src/main/java directory in project skeleton");
+    }
+
+    @FunctionalInterface
+    private interface FileRenderer {
+        void render(Writer writer) throws IOException;
+    }
+
+    private static final class StageTimer {
+
+        private final GenerationStage stage;
+        private final int files;
+        private final Consumer<GenerationEvent> progress;
+        private final AtomicInteger remaining;
+        private final AtomicLong startedNanos = new AtomicLong();
+        private volatile boolean failed;
+
+        private StageTimer(GenerationStage stage, int files, Consumer<GenerationEvent> progress) {
+            this.stage = stage;
+            this.files = files;
+            this.progress = progress;
+            this.remaining = new AtomicInteger(files);
+        }
 
-        if (Files.exists(expectedPath) &&
-                (Files.exists(expectedPath.resolve("pom.xml")) || Files.exists(expectedPath.resolve("build.gradle")))) {
-            return expectedPath;
+        private Callable<String> wrap(Callable<String> task) {
+            return () -> {
+                startedNanos.compareAndSet(0, System.nanoTime());
+                String target = null;
+                try {
+                    target = task.call();
+                    return target;
+                } catch (Exception e) {
+                    failed = true;
+                    throw e;
+                } finally {
+                    if (remaining.decrementAndGet() == 0 && !failed) {
+                        progress.accept(GenerationEvent.of(stage, files, startedNanos.get(), files == 1 ? target : null));
+                    }
+                }
+            };
         }
+    }
+
+    private static final class TimedInputStream extends FilterInputStream {
+
+        private long readNanos;
 
-        try (Stream<Path> stream = Files.list(baseOutputDir)) {
-            Optional<Path> projectDir = stream
-                    .filter(Files::isDirectory)
-                    .filter(path -> path.getFileName().toString().equals(artifactId))
-                    .findFirst();
+        private TimedInputStream(InputStream in) {
+            super(in);
+        }
 
-            if (projectDir.isPresent()) {
-                return projectDir.get();
+        @Override
+        public int read() throws IOException {
+            long started = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                readNanos += System.nanoTime() - started;
             }
         }
 
-        throw new IOException("Could not find project root directory for: " + artifactId);
-    }
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long started = System.nanoTime();
+            try {
+                return in.read(buffer, offset, length);
+            } finally {
+                readNanos += System.nanoTime() - started;
+            }
+        }
 
-    private Path findJavaSourceRoot(Path projectRoot) throws IOException {
-        Path srcMainJava = projectRoot.resolve("src/main/java");
-        if (Files.exists(srcMainJava)) {
-            return srcMainJava;
+        private long readNanos() {
+            return readNanos;
         }
-        throw new IOException("Could not find src/main/java directory in " + projectRoot);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.springcli.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.springcli.client.SpringInitializrClient;
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.TemplateContext;
+import com.springcli.model.skeleton.StarterDependency;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RegisterReflectionForBinding(StarterDependency.class)
+public class SkeletonGeneratorService {
+
+    private static final String CATALOG_RESOURCE = "skeleton/starters.json";
+    private static final String WRAPPER_RESOURCE_DIR = "skeleton/wrapper/";
+    private static final String DEPENDENCY_MANAGEMENT_VERSION = "1.1.7";
+    private static final String GRADLE_VERSION = "8.12";
+    private static final Pattern SUPPORTED_BOOT_VERSION = Pattern.compile("^3\\.\\d+\\.\\d+$");
+
+    private final TemplateService templateService;
+    private final Map<String, List<StarterDependency>> catalog;
+
+    public SkeletonGeneratorService(TemplateService templateService, JsonCodec jsonCodec) {
+        this.templateService = templateService;
+        this.catalog = loadCatalog(jsonCodec);
+    }
+
+    private Map<String, List<StarterDependency>> loadCatalog(JsonCodec jsonCodec) {
+        try (InputStream in = new ClassPathResource(CATALOG_RESOURCE).getInputStream()) {
+            return jsonCodec.read(in, new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load " + CATALOG_RESOURCE, e);
+        }
+    }
+
+    public boolean supports(ProjectConfig config) {
+        String language = config.language() != null ? config.language() : "java";
+        String packaging = config.packaging() != null ? config.packaging() : "jar";
+
+        return "java".equalsIgnoreCase(language)
+                && "jar".equalsIgnoreCase(packaging)
+                && config.springBootVersion() != null
+                && SUPPORTED_BOOT_VERSION.matcher(config.springBootVersion()).matches()
+                && catalog.keySet().containsAll(config.dependencies());
+    }
+
+    public boolean prefersLocal(ProjectConfig config) {
+        return supports(config) && projectType(config).startsWith("maven");
+    }
+
+    public ProjectTree generateSkeleton(ProjectConfig config) throws IOException {
+        if (!supports(config)) {
+            throw new IllegalArgumentException("No bundled skeleton for this project configuration: " + config.artifactId());
+        }
+
+        log.info("Synthesizing project skeleton locally for: {}", config.artifactId());
+
+        ProjectTree tree = new ProjectTree();
+        TemplateContext context = buildContext(config);
+
+        switch (projectType(config)) {
+            case "gradle-project" -> addGradleBuild(tree, context, "gradle", "build.gradle", "settings.gradle");
+            case "gradle-project-kotlin" -> addGradleBuild(tree, context, "gradle-kotlin", "build.gradle.kts", "settings.gradle.kts");
+            default -> addMavenBuild(tree, context);
+        }
+
+        String applicationName = (String) context.additionalProperties().get("applicationName");
+        String packagePath = config.packageName().replace('.', '/');
+
+        tree.put("src/main/java/" + packagePath + "/" + applicationName + ".java",
+                templateService.renderSkeleton("java/Application", context));
+        tree.put("src/test/java/" + packagePath + "/" + applicationName + "Tests.java",
+                templateService.renderSkeleton("java/ApplicationTests", context));
+        tree.put("src/main/resources/application.properties",
+                templateService.renderSkeleton("application.properties", context));
+
+        return tree;
+    }
+
+    private void addMavenBuild(ProjectTree tree, TemplateContext context) throws IOException {
+        tree.put("pom.xml", templateService.renderSkeleton("maven/pom", context));
+        tree.putExecutable("mvnw", readWrapperResource("mvnw"));
+        tree.put("mvnw.cmd", readWrapperResource("mvnw.cmd"));
+        tree.put(".mvn/wrapper/maven-wrapper.properties", readWrapperResource("maven-wrapper.properties"));
+    }
+
+    private void addGradleBuild(ProjectTree tree, TemplateContext context, String dialect, String buildFile, String settingsFile) {
+        tree.put(buildFile, templateService.renderSkeleton(dialect + "/" + buildFile, context));
+        tree.put(settingsFile, templateService.renderSkeleton(dialect + "/" + settingsFile, context));
+        tree.put("gradle/wrapper/gradle-wrapper.properties", templateService.renderSkeleton("gradle/gradle-wrapper.properties", context));
+
+        log.warn("Gradle wrapper scripts are not bundled; run 'gradle wrapper' inside the project to create them");
+    }
+
+    private byte[] readWrapperResource(String name) throws IOException {
+        try (InputStream in = new ClassPathResource(WRAPPER_RESOURCE_DIR + name).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private TemplateContext buildContext(ProjectConfig config) {
+        List<StarterDependency> dependencies = resolveStarterDependencies(config.dependencies());
+
+        return TemplateContext.builder()
+                .packageName(config.packageName())
+                .basePackage(config.packageName())
+                .projectName(config.artifactId())
+                .architecture(config.architecture())
+                .javaVersion(config.javaVersion())
+                .buildTool(config.buildTool())
+                .features(config.features())
+                .addProperty("groupId", config.groupId())
+                .addProperty("artifactId", config.artifactId())
+                .addProperty("name", config.name())
+                .addProperty("description", config.description())
+                .addProperty("packaging", config.packaging() != null ? config.packaging() : "jar")
+                .addProperty("bootVersion", config.springBootVersion())
+                .addProperty("dependencyManagementVersion", DEPENDENCY_MANAGEMENT_VERSION)
+                .addProperty("gradleVersion", GRADLE_VERSION)
+                .addProperty("applicationName", applicationName(config.name()))
+                .addProperty("starterDependencies", dependencies)
+                .addProperty("hasAnnotationProcessors", dependencies.stream().anyMatch(dep -> "annotationProcessor".equals(dep.scope())))
+                .build();
+    }
+
+    private List<StarterDependency> resolveStarterDependencies(Set<String> dependencyIds) {
+        List<StarterDependency> dependencies = dependencyIds.stream()
+                .flatMap(id -> catalog.get(id).stream())
+                .distinct()
+                .sorted(Comparator
+                        .comparingInt((StarterDependency dep) -> StarterDependency.SCOPE_ORDER.indexOf(dep.scope()))
+                        .thenComparing(StarterDependency::coordinates))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (dependencies.stream().noneMatch(StarterDependency::starter)) {
+            dependencies.add(0, new StarterDependency("org.springframework.boot", "spring-boot-starter", "compile"));
+        }
+
+        return dependencies;
+    }
+
+    private String projectType(ProjectConfig config) {
+        return SpringInitializrClient.normalizeProjectType(config.buildTool() != null ? config.buildTool() : "maven");
+    }
+
+    static String applicationName(String name) {
+        String pascalCase = Arrays.stream(name.split("[^A-Za-z0-9]+"))
+                .filter(part -> !part.isEmpty())
+                .map(part -> Character.toUpperCase(part.charAt(0)) + part.substring(1))
+                .collect(Collectors.joining());
+
+        if (pascalCase.isEmpty() || !Character.isJavaIdentifierStart(pascalCase.charAt(0))) {
+            return "Application";
+        }
+        return pascalCase.endsWith("Application") ? pascalCase : pascalCase + "Application";
+    }
+}
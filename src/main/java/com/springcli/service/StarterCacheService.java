@@ -0,0 +1,232 @@
+package com.springcli.service;
+
+import com.springcli.infra.json.JsonCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RegisterReflectionForBinding({StarterCacheService.CacheIndex.class, StarterCacheService.CacheEntry.class})
+public class StarterCacheService {
+
+    private static final String CACHE_DIR = System.getProperty("user.home") + "/.spring-cli/starters";
+    private static final String INDEX_FILE = "index.json";
+    private static final long MAX_CACHE_BYTES = 50L * 1024 * 1024;
+
+    private final JsonCodec jsonCodec;
+    private final Path cacheDir;
+    private final long maxCacheBytes;
+    private final long entryTtlMs;
+
+    private CacheIndex index;
+    private boolean dirty;
+
+    @Autowired
+    public StarterCacheService(JsonCodec jsonCodec) {
+        this(jsonCodec, Paths.get(CACHE_DIR), MAX_CACHE_BYTES, CacheService.CACHE_EXPIRY_MS);
+    }
+
+    StarterCacheService(JsonCodec jsonCodec, Path cacheDir, long maxCacheBytes, long entryTtlMs) {
+        this.jsonCodec = jsonCodec;
+        this.cacheDir = cacheDir;
+        this.maxCacheBytes = maxCacheBytes;
+        this.entryTtlMs = entryTtlMs;
+    }
+
+    public synchronized Optional<byte[]> getCachedStarter(Map<String, String> params) {
+        CacheIndex current = loadIndex();
+        String key = cacheKey(params);
+        CacheEntry entry = current.entries().get(key);
+        Path entryPath = cacheDir.resolve(key + ".zip");
+
+        if (entry == null || isExpired(entry) || !Files.exists(entryPath)) {
+            if (entry != null) {
+                removeEntry(current, key);
+            }
+            index = current.withCounters(current.hits(), current.misses() + 1, current.evictions());
+            dirty = true;
+            log.debug("Starter cache miss for {}", key);
+            return Optional.empty();
+        }
+
+        byte[] zipBytes;
+        try {
+            zipBytes = Files.readAllBytes(entryPath);
+        } catch (IOException e) {
+            log.warn("Failed to read cached starter {}, will download again", key, e);
+            removeEntry(current, key);
+            index = current.withCounters(current.hits(), current.misses() + 1, current.evictions());
+            dirty = true;
+            return Optional.empty();
+        }
+
+        current.entries().put(key, new CacheEntry(entry.createdAt(), System.currentTimeMillis(), entry.size()));
+        index = current.withCounters(current.hits() + 1, current.misses(), current.evictions());
+        dirty = true;
+
+        log.info("Using cached starter project ({})", key.substring(0, 12));
+        return Optional.of(zipBytes);
+    }
+
+    public synchronized void cacheStarter(Map<String, String> params, byte[] zipBytes) {
+        CacheIndex current = loadIndex();
+        String key = cacheKey(params);
+
+        try {
+            Files.createDirectories(cacheDir);
+            Files.write(cacheDir.resolve(key + ".zip"), zipBytes);
+
+            long now = System.currentTimeMillis();
+            current.entries().put(key, new CacheEntry(now, now, zipBytes.length));
+            evictIfNeeded(current);
+            saveIndex();
+        } catch (IOException e) {
+            log.warn("Failed to cache starter project", e);
+        }
+    }
+
+    public synchronized CacheStats getStats() {
+        CacheIndex current = loadIndex();
+        long totalBytes = current.entries().values().stream().mapToLong(CacheEntry::size).sum();
+        return new CacheStats(current.hits(), current.misses(), current.evictions(), current.entries().size(), totalBytes, maxCacheBytes);
+    }
+
+    public synchronized void clear() {
+        CacheIndex current = loadIndex();
+        new ArrayList<>(current.entries().keySet()).forEach(key -> removeEntry(current, key));
+        saveIndex();
+        log.info("Starter cache cleared");
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+        if (dirty) {
+            saveIndex();
+        }
+    }
+
+    static String cacheKey(Map<String, String> params) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(params).forEach((key, value) -> {
+            if (value != null) {
+                String normalized = "dependencies".equals(key) ? normalizeList(value) : value.trim();
+                canonical.append(key).append('=').append(normalized).append('\n');
+            }
+        });
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String normalizeList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private boolean isExpired(CacheEntry entry) {
+        return System.currentTimeMillis() - entry.createdAt() > entryTtlMs;
+    }
+
+    private void evictIfNeeded(CacheIndex current) {
+        long totalBytes = current.entries().values().stream().mapToLong(CacheEntry::size).sum();
+        if (totalBytes <= maxCacheBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, CacheEntry>> byLastAccess = current.entries().entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccessedAt()))
+                .toList();
+
+        long evicted = 0;
+        for (Map.Entry<String, CacheEntry> candidate : byLastAccess) {
+            if (totalBytes <= maxCacheBytes) {
+                break;
+            }
+            totalBytes -= candidate.getValue().size();
+            removeEntry(current, candidate.getKey());
+            evicted++;
+        }
+
+        index = current.withCounters(current.hits(), current.misses(), current.evictions() + evicted);
+        log.debug("Evicted {} starter cache entries", evicted);
+    }
+
+    private void removeEntry(CacheIndex current, String key) {
+        current.entries().remove(key);
+        try {
+            Files.deleteIfExists(cacheDir.resolve(key + ".zip"));
+        } catch (IOException e) {
+            log.warn("Failed to delete cached starter {}", key, e);
+        }
+    }
+
+    private CacheIndex loadIndex() {
+        if (index != null) {
+            return index;
+        }
+
+        Path indexPath = cacheDir.resolve(INDEX_FILE);
+        if (Files.exists(indexPath)) {
+            try {
+                CacheIndex loaded = jsonCodec.reader(CacheIndex.class).readValue(indexPath.toFile());
+                index = new CacheIndex(loaded.hits(), loaded.misses(), loaded.evictions(), new HashMap<>(loaded.entries()));
+                return index;
+            } catch (IOException e) {
+                log.warn("Failed to read starter cache index, starting empty", e);
+            }
+        }
+
+        index = new CacheIndex(0, 0, 0, new HashMap<>());
+        return index;
+    }
+
+    private void saveIndex() {
+        try {
+            Files.createDirectories(cacheDir);
+            jsonCodec.writer(CacheIndex.class).writeValue(cacheDir.resolve(INDEX_FILE).toFile(), index);
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("Failed to write starter cache index", e);
+        }
+    }
+
+    public record CacheEntry(long createdAt, long lastAccessedAt, long size) {}
+
+    public record CacheIndex(long hits, long misses, long evictions, Map<String, CacheEntry> entries) {
+        public CacheIndex {
+            if (entries == null) entries = new HashMap<>();
+        }
+
+        CacheIndex withCounters(long hits, long misses, long evictions) {
+            return new CacheIndex(hits, misses, evictions, entries);
+        }
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int entries, long totalBytes, long maxBytes) {
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
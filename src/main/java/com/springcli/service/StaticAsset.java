@@ -0,0 +1,82 @@
+package com.springcli.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+record StaticAsset(String contentType, String cacheControl, String etag, byte[] body, byte[] gzipBody) {
+
+    static Optional<StaticAsset> load(String path, String contentType) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+
+        byte[] body;
+        try (InputStream in = resource.getInputStream()) {
+            body = in.readAllBytes();
+        }
+
+        byte[] gzipped = gzip(body);
+        byte[] gzipBody = gzipped.length < body.length * 0.9 ? gzipped : null;
+        String cacheControl = path.endsWith(".html") ? "no-cache" : "public, max-age=86400";
+        return Optional.of(new StaticAsset(contentType, cacheControl, digest(body), body, gzipBody));
+    }
+
+    String etag(boolean gzip) {
+        return gzip ? "\"" + etag + "-gzip\"" : "\"" + etag + "\"";
+    }
+
+    boolean isNotModified(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag(false)) || tag.equals(etag(true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean canServeGzip(String acceptEncoding) {
+        if (gzipBody == null || acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
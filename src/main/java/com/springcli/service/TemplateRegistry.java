@@ -0,0 +1,99 @@
+package com.springcli.service;
+
+import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.loader.ClasspathLoader;
+import io.pebbletemplates.pebble.template.PebbleTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class TemplateRegistry {
+
+    private static final String TEMPLATE_ROOT = "templates";
+    private static final String TEMPLATE_SUFFIX = ".peb";
+    private static final String TEMPLATE_PATTERN = "classpath*:" + TEMPLATE_ROOT + "/**/*" + TEMPLATE_SUFFIX;
+
+    private final PebbleEngine pebbleEngine;
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+
+    private volatile TemplateStats stats = new TemplateStats(0, 0, 0, Map.of(), false);
+
+    public TemplateRegistry() {
+        ClasspathLoader loader = new ClasspathLoader();
+        loader.setPrefix(TEMPLATE_ROOT);
+        loader.setSuffix(TEMPLATE_SUFFIX);
+
+        this.pebbleEngine = new PebbleEngine.Builder()
+                .loader(loader)
+                .strictVariables(false)
+                .build();
+    }
+
+    public PebbleTemplate getTemplate(String templatePath) {
+        String name = templatePath.startsWith("/") ? templatePath.substring(1) : templatePath;
+
+        String failure = failures.get(name);
+        if (failure != null) {
+            throw new RuntimeException("Template failed to compile: " + name + " (" + failure + ")");
+        }
+
+        return pebbleEngine.getTemplate(name);
+    }
+
+    public synchronized TemplateStats warmUp() {
+        long start = System.nanoTime();
+        List<String> names = discoverTemplates();
+        int compiledCount = 0;
+
+        for (String name : names) {
+            try {
+                pebbleEngine.getTemplate(name);
+                failures.remove(name);
+                compiledCount++;
+            } catch (RuntimeException e) {
+                failures.put(name, e.getMessage());
+                log.error("Failed to compile template {}: {}", name, e.getMessage());
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        stats = new TemplateStats(compiledCount, failures.size(), elapsedMs, Map.copyOf(failures), true);
+
+        log.info("Compiled {} templates in {} ms ({} failed)", compiledCount, elapsedMs, failures.size());
+        return stats;
+    }
+
+    public TemplateStats getStats() {
+        return stats;
+    }
+
+    private List<String> discoverTemplates() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(getClass().getClassLoader())
+                    .getResources(TEMPLATE_PATTERN);
+
+            List<String> names = new ArrayList<>();
+            for (Resource resource : resources) {
+                String url = resource.getURL().toString();
+                int rootIndex = url.lastIndexOf("/" + TEMPLATE_ROOT + "/");
+                if (rootIndex >= 0 && url.endsWith(TEMPLATE_SUFFIX)) {
+                    names.add(url.substring(rootIndex + TEMPLATE_ROOT.length() + 2, url.length() - TEMPLATE_SUFFIX.length()));
+                }
+            }
+            Collections.sort(names);
+            return names;
+        } catch (IOException e) {
+            log.warn("Could not list bundled templates, they will be compiled on first use", e);
+            return List.of();
+        }
+    }
+
+    public record TemplateStats(int compiled, int failed, long compileTimeMs, Map<String, String> failures, boolean warmedUp) {}
+}
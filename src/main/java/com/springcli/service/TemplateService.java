@@ -1,49 +1,37 @@
 package com.springcli.service;
 
-import io.pebbletemplates.pebble.PebbleEngine;
-import io.pebbletemplates.pebble.loader.ClasspathLoader;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import com.springcli.model.TemplateContext;
+import com.springcli.model.TemplateView;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.lang.reflect.Method;
-import java.lang.reflect.RecordComponent;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TemplateService {
 
-    private final PebbleEngine pebbleEngine;
+    private final TemplateRegistry templateRegistry;
 
-    public TemplateService() {
-        ClasspathLoader loader = new ClasspathLoader();
-        loader.setPrefix("templates");
-        loader.setSuffix(".peb");
+    public String renderTemplate(String templatePath, TemplateContext context) {
+        return renderTemplate(templatePath, TemplateView.of(context));
+    }
 
-        this.pebbleEngine = new PebbleEngine.Builder()
-                .loader(loader)
-                .strictVariables(false)
-                .build();
+    public String renderTemplate(String templatePath, TemplateView view) {
+        Writer writer = new StringWriter();
+        renderTemplate(templatePath, view, writer);
+        return writer.toString();
     }
 
-    public String renderTemplate(String templatePath, TemplateContext context) {
+    public void renderTemplate(String templatePath, TemplateView view, Writer writer) {
         try {
-            Map<String, Object> templateContext = buildDynamicContext(context);
-            if (templatePath.startsWith("/")) {
-                templatePath = templatePath.substring(1);
-            }
-
-            PebbleTemplate template = pebbleEngine.getTemplate(templatePath);
-            Writer writer = new StringWriter();
-            template.evaluate(writer, templateContext);
-
-            return writer.toString();
+            PebbleTemplate template = templateRegistry.getTemplate(templatePath);
+            template.evaluate(writer, view);
 
         } catch (IOException e) {
             log.error("Failed to render template: {}", templatePath, e);
@@ -51,6 +39,18 @@ public class TemplateService {
         }
     }
 
+    public void renderJavaClass(String templateName, TemplateView view, Writer writer) {
+        renderTemplate("java/" + templateName, view, writer);
+    }
+
+    public void renderConfig(String templateName, TemplateView view, Writer writer) {
+        renderTemplate("config/" + templateName, view, writer);
+    }
+
+    public void renderOps(String templateName, TemplateView view, Writer writer) {
+        renderTemplate("ops/" + templateName, view, writer);
+    }
+
     public String renderJavaClass(String templateName, TemplateContext context) {
         return renderTemplate("java/" + templateName, context);
     }
@@ -63,64 +63,7 @@ public class TemplateService {
         return renderTemplate("ops/" + templateName, context);
     }
 
-    private Map<String, Object> buildDynamicContext(TemplateContext context) {
-        Map<String, Object> map = new HashMap<>();
-
-        if (context == null) {
-            return map;
-        }
-
-        Class<?> contextClass = context.getClass();
-
-        if (contextClass.isRecord()) {
-            for (RecordComponent component : contextClass.getRecordComponents()) {
-                try {
-                    Method accessor = component.getAccessor();
-                    Object value = accessor.invoke(context);
-                    String name = component.getName();
-
-                    if (value != null) {
-                        map.put(name, value);
-
-                        if (value.getClass().isRecord()) {
-                            map.putAll(flattenRecord(value, name));
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to extract property '{}' from context", component.getName(), e);
-                }
-            }
-        }
-
-        if (context.additionalProperties() != null) {
-            map.putAll(context.additionalProperties());
-        }
-
-        return map;
-    }
-
-    private Map<String, Object> flattenRecord(Object record, String prefix) {
-        Map<String, Object> flattened = new HashMap<>();
-
-        Class<?> recordClass = record.getClass();
-        if (!recordClass.isRecord()) {
-            return flattened;
-        }
-
-        for (RecordComponent component : recordClass.getRecordComponents()) {
-            try {
-                Method accessor = component.getAccessor();
-                Object value = accessor.invoke(record);
-                String key = component.getName();
-
-                if (value != null) {
-                    flattened.put(key, value);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to flatten record property '{}'", component.getName(), e);
-            }
-        }
-
-        return flattened;
+    public String renderSkeleton(String templateName, TemplateContext context) {
+        return renderTemplate("skeleton/" + templateName, context);
     }
 }
@@ -0,0 +1,45 @@
+package com.springcli.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+final class TextEdits {
+
+    private final List<Edit> edits = new ArrayList<>();
+
+    void insert(int offset, String text) {
+        edits.add(new Edit(offset, offset, text));
+    }
+
+    void replace(int start, int end, String text) {
+        edits.add(new Edit(start, end, text));
+    }
+
+    String apply(String source) {
+        return apply(source, 0, source.length());
+    }
+
+    String apply(String source, int from, int to) {
+        List<Edit> plan = new ArrayList<>(edits);
+        plan.sort(Comparator.comparingInt(Edit::start));
+
+        int capacity = to - from;
+        for (Edit edit : plan) {
+            capacity += edit.text().length() - (edit.end() - edit.start());
+        }
+
+        StringBuilder result = new StringBuilder(capacity);
+        int cursor = from;
+        for (Edit edit : plan) {
+            if (edit.start() < cursor || edit.end() > to) {
+                throw new IllegalStateException("Overlapping edits at offset " + edit.start());
+            }
+            result.append(source, cursor, edit.start()).append(edit.text());
+            cursor = edit.end();
+        }
+        return result.append(source, cursor, to).toString();
+    }
+
+    private record Edit(int start, int end, String text) {}
+}
@@ -1,9 +1,10 @@
 package com.springcli.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.springcli.infra.json.JsonCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -11,18 +12,69 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@RegisterReflectionForBinding({UpdateCheckService.CachedCheck.class, UpdateCheckService.UpdateInfo.class})
 public class UpdateCheckService {
 
     private static final String GITHUB_API_URL = "https://api.github.com/repos/YOUR_REPO/releases/latest";
     private static final String CURRENT_VERSION = "1.1.0";
-    private final ObjectMapper objectMapper;
+    private static final String CACHE_FILE = System.getProperty("user.home") + "/.spring-cli/update-check.json";
+    private static final long CHECK_INTERVAL_MS = 24 * 60 * 60 * 1000;
+
+    private final JsonCodec jsonCodec;
+    private final Path cacheFilePath;
+
+    @Autowired
+    public UpdateCheckService(JsonCodec jsonCodec) {
+        this(jsonCodec, Paths.get(CACHE_FILE));
+    }
+
+    UpdateCheckService(JsonCodec jsonCodec, Path cacheFilePath) {
+        this.jsonCodec = jsonCodec;
+        this.cacheFilePath = cacheFilePath;
+    }
+
+    public CompletableFuture<UpdateInfo> checkForUpdatesAsync() {
+        Optional<CachedCheck> cached = readCache();
+        if (cached.isPresent() && System.currentTimeMillis() - cached.get().checkedAt() < CHECK_INTERVAL_MS) {
+            return CompletableFuture.completedFuture(cached.get().info());
+        }
+
+        CompletableFuture<UpdateInfo> result = new CompletableFuture<>();
+        Thread checker = new Thread(() -> {
+            try {
+                Optional<UpdateInfo> latest = fetchLatest();
+                latest.ifPresent(this::writeCache);
+                result.complete(latest.orElseGet(this::noUpdate));
+            } catch (RuntimeException e) {
+                log.debug("Background update check failed: {}", e.getMessage());
+                result.complete(noUpdate());
+            }
+        }, "spring-cli-update-check");
+        checker.setDaemon(true);
+        checker.start();
+        return result;
+    }
+
+    public Optional<UpdateInfo> getLastKnownResult() {
+        return readCache().map(CachedCheck::info);
+    }
 
     public UpdateInfo checkForUpdates() {
+        return fetchLatest().orElseGet(this::noUpdate);
+    }
+
+    private Optional<UpdateInfo> fetchLatest() {
         try {
             HttpClient client = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(5))
@@ -38,19 +90,59 @@ public class UpdateCheckService {
             HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() == 200) {
-                JsonNode json = objectMapper.readTree(response.body());
+                JsonNode json = jsonCodec.readTree(response.body());
                 String latestVersion = json.get("tag_name").asText().replace("v", "");
                 String releaseUrl = json.get("html_url").asText();
 
                 if (isNewerVersion(latestVersion, CURRENT_VERSION)) {
-                    return new UpdateInfo(true, latestVersion, CURRENT_VERSION, releaseUrl);
+                    return Optional.of(new UpdateInfo(true, latestVersion, CURRENT_VERSION, releaseUrl));
                 }
+                return Optional.of(noUpdate());
             }
 
-            return new UpdateInfo(false, CURRENT_VERSION, CURRENT_VERSION, null);
+            return Optional.empty();
         } catch (IOException | InterruptedException e) {
             log.debug("Could not check for updates: {}", e.getMessage());
-            return new UpdateInfo(false, CURRENT_VERSION, CURRENT_VERSION, null);
+            return Optional.empty();
+        }
+    }
+
+    private UpdateInfo noUpdate() {
+        return new UpdateInfo(false, CURRENT_VERSION, CURRENT_VERSION, null);
+    }
+
+    private Optional<CachedCheck> readCache() {
+        if (!Files.exists(cacheFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            CachedCheck cached = jsonCodec.reader(CachedCheck.class).readValue(cacheFilePath.toFile());
+            if (cached.info() == null || !CURRENT_VERSION.equals(cached.info().currentVersion())) {
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable update check cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeCache(UpdateInfo info) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFilePath.getParent());
+            tempFile = Files.createTempFile(cacheFilePath.getParent(), "update-check", ".tmp");
+            jsonCodec.writer(CachedCheck.class).writeValue(tempFile.toFile(), new CachedCheck(System.currentTimeMillis(), info));
+            try {
+                Files.move(tempFile, cacheFilePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("Could not cache update check result: {}", e.getMessage());
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
         }
     }
 
@@ -72,6 +164,8 @@ public class UpdateCheckService {
         return latestParts.length > currentParts.length;
     }
 
+    public record CachedCheck(long checkedAt, UpdateInfo info) {}
+
     public record UpdateInfo(
         boolean updateAvailable,
         String latestVersion,
@@ -1,21 +1,28 @@
 package com.springcli.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.infra.json.JsonCodec;
 import com.springcli.model.*;
+import com.springcli.web.dto.GenerationRequest;
+import com.springcli.web.dto.GenerationResponse;
+import com.sun.net.httpserver.Filter;
 import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,14 +30,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WebServerService {
 
+    private static final ThreadLocal<Boolean> OVERLOADED = ThreadLocal.withInitial(() -> false);
+    private static final List<String> PRELOADED_ASSETS = List.of("/static/index.html", "/static/icon.png");
+
     private final MetadataService metadataService;
     private final PresetService presetService;
-    private final ProjectGeneratorService projectGeneratorService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GenerationJobService generationJobService;
+    private final ExecutorService webRequestExecutor;
+    private final ExecutorService webRejectionExecutor;
+    private final ExecutorService eventStreamExecutor;
+    private final JsonCodec jsonCodec;
 
     private HttpServer httpServer;
     private int actualPort;
     private boolean isRunning = false;
+    private volatile CachedOptions cachedOptions;
+    private final Map<String, StaticAsset> staticAssets = new ConcurrentHashMap<>();
 
     public void startAndOpenBrowser() {
         if (isRunning) {
@@ -43,16 +58,18 @@ public class WebServerService {
             log.info("Starting web server on port {}...", actualPort);
 
             httpServer = HttpServer.create(new InetSocketAddress(actualPort), 0);
-
-            httpServer.createContext("/", this::handleStaticFiles);
-            httpServer.createContext("/api/metadata", this::handleMetadata);
-            httpServer.createContext("/api/architectures", this::handleArchitectures);
-            httpServer.createContext("/api/presets", this::handlePresets);
-            httpServer.createContext("/api/options", this::handleOptions);
-            httpServer.createContext("/api/features", this::handleFeatures);
-            httpServer.createContext("/api/generate", this::handleGenerate);
-
-            httpServer.setExecutor(null);
+            preloadStaticAssets();
+
+            createContext("/", this::handleStaticFiles);
+            createContext("/api/metadata", this::handleMetadata);
+            createContext("/api/architectures", this::handleArchitectures);
+            createContext("/api/presets", this::handlePresets);
+            createContext("/api/options", this::handleOptions);
+            createContext("/api/features", this::handleFeatures);
+            createContext("/api/generate", this::handleGenerate);
+            createContext("/api/jobs/", this::handleJobStatus);
+
+            httpServer.setExecutor(this::dispatch);
             httpServer.start();
 
             isRunning = true;
@@ -70,6 +87,42 @@ public class WebServerService {
         }
     }
 
+    private void createContext(String path, HttpHandler handler) {
+        httpServer.createContext(path, handler).getFilters().add(new Filter() {
+            @Override
+            public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+                if (OVERLOADED.get()) {
+                    setCorsHeaders(exchange);
+                    exchange.getResponseHeaders().set("Retry-After", "2");
+                    sendJsonResponse(exchange, 503, "{\"error\": \"Server is busy, please retry shortly\"}");
+                    return;
+                }
+                chain.doFilter(exchange);
+            }
+
+            @Override
+            public String description() {
+                return "Rejects requests that overflow the request pool";
+            }
+        });
+    }
+
+    private void dispatch(Runnable exchange) {
+        try {
+            webRequestExecutor.execute(exchange);
+        } catch (RejectedExecutionException e) {
+            log.warn("Web request pool is saturated, answering 503");
+            webRejectionExecutor.execute(() -> {
+                OVERLOADED.set(true);
+                try {
+                    exchange.run();
+                } finally {
+                    OVERLOADED.remove();
+                }
+            });
+        }
+    }
+
     private int findAvailablePort() {
         try (ServerSocket socket = new ServerSocket(0)) {
             return socket.getLocalPort();
@@ -122,35 +175,80 @@ public class WebServerService {
         }
 
         try {
-            ClassPathResource resource = new ClassPathResource(path);
-            if (resource.exists()) {
-                byte[] bytes = resource.getInputStream().readAllBytes();
-                String contentType = getContentType(path);
-
-                exchange.getResponseHeaders().set("Content-Type", contentType);
-                exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
-                exchange.sendResponseHeaders(200, bytes.length);
-
-                try (OutputStream os = exchange.getResponseBody()) {
-                    os.write(bytes);
-                }
-            } else {
-                String response = "404 Not Found";
-                exchange.sendResponseHeaders(404, response.length());
-                try (OutputStream os = exchange.getResponseBody()) {
-                    os.write(response.getBytes(StandardCharsets.UTF_8));
-                }
+            Optional<StaticAsset> asset = staticAsset(path);
+            if (asset.isEmpty()) {
+                sendText(exchange, 404, "404 Not Found");
+                return;
             }
+            sendStaticAsset(exchange, asset.get());
         } catch (Exception e) {
             log.error("Error serving static file: " + path, e);
-            String response = "500 Internal Server Error";
-            exchange.sendResponseHeaders(500, response.length());
-            try (OutputStream os = exchange.getResponseBody()) {
-                os.write(response.getBytes(StandardCharsets.UTF_8));
+            sendText(exchange, 500, "500 Internal Server Error");
+        }
+    }
+
+    private Optional<StaticAsset> staticAsset(String path) throws IOException {
+        StaticAsset cached = staticAssets.get(path);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<StaticAsset> loaded = StaticAsset.load(path, getContentType(path));
+        loaded.ifPresent(asset -> staticAssets.putIfAbsent(path, asset));
+        return loaded;
+    }
+
+    private void preloadStaticAssets() {
+        for (String path : PRELOADED_ASSETS) {
+            try {
+                staticAsset(path);
+            } catch (IOException e) {
+                log.warn("Could not preload static asset {}: {}", path, e.getMessage());
             }
         }
     }
 
+    private void sendStaticAsset(HttpExchange exchange, StaticAsset asset) throws IOException {
+        boolean gzip = asset.canServeGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().set("Cache-Control", asset.cacheControl());
+        exchange.getResponseHeaders().set("ETag", asset.etag(gzip));
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+
+        if (asset.isNotModified(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = gzip ? asset.gzipBody() : asset.body();
+        exchange.getResponseHeaders().set("Content-Type", asset.contentType());
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private void sendText(HttpExchange exchange, int statusCode, String response) throws IOException {
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
     private String getContentType(String path) {
         if (path.endsWith(".html")) return "text/html; charset=UTF-8";
         if (path.endsWith(".css")) return "text/css; charset=UTF-8";
@@ -170,9 +268,7 @@ public class WebServerService {
         }
 
         try {
-            SpringMetadata metadata = metadataService.getMetadata();
-            String json = objectMapper.writeValueAsString(metadata);
-            sendJsonResponse(exchange, 200, json);
+            sendJsonResponse(exchange, 200, metadataService.getMetadataJson());
         } catch (Exception e) {
             log.error("Error fetching metadata", e);
             sendJsonResponse(exchange, 500, "{\"error\": \"Failed to fetch metadata\"}");
@@ -190,8 +286,7 @@ public class WebServerService {
                 .map(arch -> Map.of("name", arch.name(), "displayName", arch.getDisplayName()))
                 .collect(Collectors.toList());
 
-        String json = objectMapper.writeValueAsString(architectures);
-        sendJsonResponse(exchange, 200, json);
+        sendJsonResponse(exchange, 200, jsonCodec.write(architectures));
     }
 
     private void handlePresets(HttpExchange exchange) throws IOException {
@@ -202,8 +297,7 @@ public class WebServerService {
         }
 
         List<Preset> presets = presetService.getAllPresets();
-        String json = objectMapper.writeValueAsString(presets);
-        sendJsonResponse(exchange, 200, json);
+        sendJsonResponse(exchange, 200, jsonCodec.write(presets));
     }
 
     private void handleOptions(HttpExchange exchange) throws IOException {
@@ -215,18 +309,22 @@ public class WebServerService {
 
         try {
             SpringMetadata metadata = metadataService.getMetadata();
-            List<String> buildTools = metadata.buildTools().stream()
-                    .map(bt -> bt.id())
-                    .toList();
-
-            Map<String, Object> options = Map.of(
-                    "springBootVersions", metadata.springBootVersions(),
-                    "javaVersions", metadata.javaVersions(),
-                    "buildTools", buildTools
-            );
-
-            String json = objectMapper.writeValueAsString(options);
-            sendJsonResponse(exchange, 200, json);
+            CachedOptions cached = cachedOptions;
+            if (cached == null || cached.source() != metadata) {
+                List<String> buildTools = metadata.buildTools().stream()
+                        .map(bt -> bt.id())
+                        .toList();
+
+                Map<String, Object> options = Map.of(
+                        "springBootVersions", metadata.springBootVersions(),
+                        "javaVersions", metadata.javaVersions(),
+                        "buildTools", buildTools
+                );
+
+                cached = new CachedOptions(metadata, jsonCodec.write(options));
+                cachedOptions = cached;
+            }
+            sendJsonResponse(exchange, 200, cached.json());
         } catch (Exception e) {
             log.error("Error fetching options", e);
             sendJsonResponse(exchange, 500, "{\"error\": \"Failed to fetch options\"}");
@@ -240,20 +338,12 @@ public class WebServerService {
             return;
         }
 
-        List<Map<String, String>> features = Arrays.asList(
-                Map.of("id", "enableJwt", "label", "JWT Authentication", "description", "Add JWT token-based authentication", "icon", "fa-shield-alt"),
-                Map.of("id", "enableSwagger", "label", "Swagger/OpenAPI", "description", "Generate interactive API documentation", "icon", "fa-file-code"),
-                Map.of("id", "enableCors", "label", "CORS Configuration", "description", "Enable Cross-Origin Resource Sharing", "icon", "fa-globe"),
-                Map.of("id", "enableExceptionHandler", "label", "Exception Handler", "description", "Global exception handling mechanism", "icon", "fa-exclamation-triangle"),
-                Map.of("id", "enableMapStruct", "label", "MapStruct", "description", "Object mapping library for DTOs", "icon", "fa-map-signs"),
-                Map.of("id", "enableDocker", "label", "Docker Support", "description", "Dockerfile and docker-compose", "icon", "fa-docker"),
-                Map.of("id", "enableKubernetes", "label", "Kubernetes", "description", "K8s deployment manifests", "icon", "fa-dharmachakra"),
-                Map.of("id", "enableCiCd", "label", "CI/CD Pipeline", "description", "GitHub Actions workflow", "icon", "fa-sync"),
-                Map.of("id", "enableAudit", "label", "Audit Logging", "description", "Track entity changes", "icon", "fa-history")
-        );
-
-        String json = objectMapper.writeValueAsString(features);
-        sendJsonResponse(exchange, 200, json);
+        List<Map<String, String>> features = FeatureRegistry.all().stream()
+                .map(feature -> Map.of("id", feature.id(), "label", feature.label(),
+                        "description", feature.description(), "icon", feature.icon()))
+                .toList();
+
+        sendJsonResponse(exchange, 200, jsonCodec.write(features));
     }
 
     private void handleGenerate(HttpExchange exchange) throws IOException {
@@ -268,60 +358,123 @@ public class WebServerService {
             return;
         }
 
+        ProjectConfig config;
         try {
-            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
-            Map<String, Object> request = objectMapper.readValue(requestBody, Map.class);
-
-            Map<String, Object> featuresMap = (Map<String, Object>) request.get("features");
-            ProjectFeatures features = new ProjectFeatures(
-                    (Boolean) featuresMap.getOrDefault("enableJwt", false),
-                    (Boolean) featuresMap.getOrDefault("enableSwagger", false),
-                    (Boolean) featuresMap.getOrDefault("enableCors", false),
-                    (Boolean) featuresMap.getOrDefault("enableExceptionHandler", false),
-                    (Boolean) featuresMap.getOrDefault("enableMapStruct", false),
-                    (Boolean) featuresMap.getOrDefault("enableDocker", false),
-                    (Boolean) featuresMap.getOrDefault("enableKubernetes", false),
-                    (Boolean) featuresMap.getOrDefault("enableCiCd", false),
-                    (Boolean) featuresMap.getOrDefault("enableAudit", false)
-            );
-
-            ProjectConfig config = ProjectConfig.builder()
-                    .groupId((String) request.get("groupId"))
-                    .artifactId((String) request.get("artifactId"))
-                    .name((String) request.get("projectName"))
-                    .description((String) request.get("description"))
-                    .packageName((String) request.get("packageName"))
-                    .javaVersion((String) request.get("javaVersion"))
-                    .buildTool((String) request.get("buildTool"))
-                    .packaging("jar")
-                    .architecture(Architecture.valueOf((String) request.get("architecture")))
-                    .springBootVersion((String) request.get("springBootVersion"))
-                    .dependencies(new HashSet<>((List<String>) request.get("dependencies")))
-                    .features(features)
-                    .outputDirectory((String) request.get("outputPath"))
-                    .build();
-
-            projectGeneratorService.generateProject(config);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "message", "Project generated successfully at: " + request.get("outputPath"),
-                    "projectPath", request.get("outputPath")
-            );
-
-            String json = objectMapper.writeValueAsString(response);
-            sendJsonResponse(exchange, 200, json);
+            config = jsonCodec.read(exchange.getRequestBody(), GenerationRequest.class).toProjectConfig();
+        } catch (Exception e) {
+            log.error("Invalid generation request", e);
+            sendGenerationError(exchange, 400, "Failed to generate project: " + e.getMessage());
+            return;
+        }
+
+        if (wantsZip(exchange)) {
+            sendProjectZip(exchange, config);
+            return;
+        }
+
+        try {
+            GenerationJob job = generationJobService.submit(config);
+            exchange.getResponseHeaders().set("Location", "/api/jobs/" + job.id());
+            sendJsonResponse(exchange, 202, jsonCodec.write(job));
+        } catch (RejectedExecutionException e) {
+            log.warn("Generation queue is full, rejecting request for {}", config.artifactId());
+            exchange.getResponseHeaders().set("Retry-After", "5");
+            sendGenerationError(exchange, 429, "Generation queue is full, please retry shortly");
+        }
+    }
+
+    private boolean wantsZip(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        return query != null && Arrays.asList(query.split("&")).contains("format=zip");
+    }
 
+    private void sendProjectZip(HttpExchange exchange, ProjectConfig config) throws IOException {
+        ProjectTree tree;
+        try {
+            tree = generationJobService.build(config);
+        } catch (RejectedExecutionException e) {
+            log.warn("Generation queue is full, rejecting zip request for {}", config.artifactId());
+            exchange.getResponseHeaders().set("Retry-After", "5");
+            sendGenerationError(exchange, 429, "Generation queue is full, please retry shortly");
+            return;
         } catch (Exception e) {
-            log.error("Failed to generate project", e);
-            Map<String, Object> response = Map.of(
-                    "success", false,
-                    "message", "Failed to generate project: " + e.getMessage(),
-                    "projectPath", (Object) null
-            );
-            String json = objectMapper.writeValueAsString(response);
-            sendJsonResponse(exchange, 500, json);
+            log.error("Failed to generate project archive", e);
+            sendGenerationError(exchange, 500, "Failed to generate project: " + e.getMessage());
+            return;
+        }
+
+        String fileName = config.artifactId().replaceAll("[^A-Za-z0-9._-]", "_");
+        exchange.getResponseHeaders().set("Content-Type", "application/zip");
+        exchange.getResponseHeaders().set("Content-Disposition", "attachment; filename=\"" + fileName + ".zip\"");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream os = exchange.getResponseBody()) {
+            tree.writeZip(os, fileName);
         }
+        log.info("Streamed {} files for {} as a zip archive", tree.size(), config.artifactId());
+    }
+
+    private void handleJobStatus(HttpExchange exchange) throws IOException {
+        setCorsHeaders(exchange);
+        if ("OPTIONS".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(204, -1);
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath().substring("/api/jobs/".length());
+        boolean stream = path.endsWith("/events");
+        String id = stream ? path.substring(0, path.length() - "/events".length()) : path;
+
+        Optional<GenerationJob> job = generationJobService.find(id);
+        if (job.isEmpty()) {
+            sendJsonResponse(exchange, 404, "{\"error\": \"Unknown job\"}");
+            return;
+        }
+
+        if (stream) {
+            Optional<Flux<GenerationEvent>> events = generationJobService.events(id);
+            if (events.isEmpty()) {
+                sendJsonResponse(exchange, 404, "{\"error\": \"Unknown job\"}");
+                return;
+            }
+            try {
+                eventStreamExecutor.execute(() -> streamJobEvents(exchange, id, events.get()));
+            } catch (RejectedExecutionException e) {
+                log.warn("Too many open event streams, rejecting stream for job {}", id);
+                exchange.getResponseHeaders().set("Retry-After", "2");
+                sendJsonResponse(exchange, 503, "{\"error\": \"Too many open event streams\"}");
+            }
+        } else {
+            sendJsonResponse(exchange, 200, jsonCodec.write(job.get()));
+        }
+    }
+
+    private void streamJobEvents(HttpExchange exchange, String id, Flux<GenerationEvent> events) {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=UTF-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+
+        try (OutputStream os = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(200, 0);
+            for (GenerationEvent event : events.toIterable()) {
+                writeServerSentEvent(os, "stage", jsonCodec.write(event));
+            }
+            Optional<GenerationJob> finished = generationJobService.find(id);
+            if (finished.isPresent()) {
+                writeServerSentEvent(os, "complete", jsonCodec.write(finished.get()));
+            }
+        } catch (IOException e) {
+            log.debug("Event stream for job {} closed by client: {}", id, e.getMessage());
+        }
+    }
+
+    private void writeServerSentEvent(OutputStream os, String name, byte[] data) throws IOException {
+        os.write(("event: " + name + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        os.write(data);
+        os.write("\n\n".getBytes(StandardCharsets.UTF_8));
+        os.flush();
+    }
+
+    private void sendGenerationError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        sendJsonResponse(exchange, statusCode, jsonCodec.write(new GenerationResponse(false, message, null)));
     }
 
     private void setCorsHeaders(HttpExchange exchange) {
@@ -331,7 +484,10 @@ public class WebServerService {
     }
 
     private void sendJsonResponse(HttpExchange exchange, int statusCode, String json) throws IOException {
-        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        sendJsonResponse(exchange, statusCode, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendJsonResponse(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
         exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
         exchange.sendResponseHeaders(statusCode, bytes.length);
         try (OutputStream os = exchange.getResponseBody()) {
@@ -346,4 +502,6 @@ public class WebServerService {
     public int getServerPort() {
         return actualPort;
     }
+
+    private record CachedOptions(SpringMetadata source, byte[] json) {}
 }
@@ -1,5 +1,6 @@
 package com.springcli.service.config;
 
+import com.springcli.model.ProjectConfig;
 import com.springcli.model.rules.DependencyRule;
 import com.springcli.service.DependencyRulesService;
 import lombok.RequiredArgsConstructor;
@@ -7,7 +8,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,18 +21,7 @@ public class DependencyConfigurationRegistry {
     }
 
     public Optional<DependencyConfiguration> getConfiguration(String dependencyId) {
-        return rulesService.getRule(dependencyId)
-            .map(rule -> {
-                Map<String, String> properties = rule.runtime().properties().stream()
-                    .collect(Collectors.toMap(
-                        p -> p.key(),
-                        p -> p.value()
-                    ));
-
-                return DependencyConfiguration.builder(dependencyId)
-                    .requiredProperties(properties)
-                    .build();
-            });
+        return rulesService.index().configuration(dependencyId);
     }
 
     public List<DependencyConfiguration> getConfigurationsForDependencies(Set<String> dependencyIds) {
@@ -59,6 +48,19 @@ public class DependencyConfigurationRegistry {
         return rulesService.getRules(dependencyIds);
     }
 
+    public DependencyPlan resolve(Collection<String> dependencyIds) {
+        return rulesService.resolve(dependencyIds);
+    }
+
+    public DependencyPlan resolve(ProjectConfig config) {
+        Set<String> selected = new LinkedHashSet<>(config.dependencies());
+        selected.addAll(config.features().dependencyIds());
+
+        DependencyPlan plan = resolve(selected);
+        plan.conflicts().forEach(conflict -> log.warn("Dependency conflict: {}", conflict));
+        return plan;
+    }
+
     public Optional<DependencyRule> getRule(String dependencyId) {
         return rulesService.getRule(dependencyId);
     }
@@ -0,0 +1,177 @@
+package com.springcli.service.config;
+
+import com.springcli.model.rules.DependencyRule;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class DependencyGraph {
+
+    private static final int MAX_CACHED_PLANS = 256;
+
+    private final DependencyRuleIndex index;
+    private final BitSet[] pulls;
+    private final int[][][] requirements;
+    private final BitSet[] conflicts;
+    private final int[] order;
+    private final Map<BitSet, DependencyPlan> plans = new ConcurrentHashMap<>();
+
+    private DependencyGraph(DependencyRuleIndex index) {
+        int size = index.size();
+        this.index = index;
+        this.pulls = new BitSet[size];
+        this.requirements = new int[size][][];
+        this.conflicts = new BitSet[size];
+
+        BitSet[] requires = new BitSet[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            DependencyRule rule = index.rule(ordinal);
+            requirements[ordinal] = requirements(rule);
+            requires[ordinal] = new BitSet(size);
+            for (int[] alternatives : requirements[ordinal]) {
+                Arrays.stream(alternatives).forEach(requires[ordinal]::set);
+            }
+            pulls[ordinal] = edges(rule, "implies", rule.implies());
+            conflicts[ordinal] = edges(rule, "conflicts", rule.conflicts());
+        }
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            for (int other = conflicts[ordinal].nextSetBit(0); other >= 0; other = conflicts[ordinal].nextSetBit(other + 1)) {
+                conflicts[other].set(ordinal);
+            }
+        }
+        this.order = topologicalOrder(requires);
+    }
+
+    public static DependencyGraph compile(DependencyRuleIndex index) {
+        return new DependencyGraph(index);
+    }
+
+    public DependencyPlan resolve(Collection<String> dependencyIds) {
+        BitSet selection = index.select(dependencyIds);
+        DependencyPlan plan = plans.get(selection);
+        if (plan == null) {
+            plan = plan(selection);
+            if (plans.size() >= MAX_CACHED_PLANS) {
+                plans.clear();
+            }
+            plans.put(selection, plan);
+        }
+        return plan;
+    }
+
+    private DependencyPlan plan(BitSet selection) {
+        BitSet closure = (BitSet) selection.clone();
+        Deque<Integer> pending = new ArrayDeque<>();
+        selection.stream().forEach(pending::push);
+
+        while (!pending.isEmpty()) {
+            int current = pending.pop();
+            BitSet next = (BitSet) pulls[current].clone();
+            for (int[] alternatives : requirements[current]) {
+                if (Arrays.stream(alternatives).noneMatch(closure::get)) {
+                    next.set(alternatives[0]);
+                }
+            }
+            for (int ordinal = next.nextSetBit(0); ordinal >= 0; ordinal = next.nextSetBit(ordinal + 1)) {
+                if (!closure.get(ordinal)) {
+                    closure.set(ordinal);
+                    pending.push(ordinal);
+                }
+            }
+        }
+
+        List<DependencyRule> rules = new ArrayList<>(closure.cardinality());
+        Set<String> requested = new LinkedHashSet<>();
+        Set<String> added = new LinkedHashSet<>();
+        for (int ordinal : order) {
+            if (closure.get(ordinal)) {
+                DependencyRule rule = index.rule(ordinal);
+                rules.add(rule);
+                (selection.get(ordinal) ? requested : added).add(rule.id());
+            }
+        }
+
+        List<String> clashes = new ArrayList<>();
+        for (int ordinal = closure.nextSetBit(0); ordinal >= 0; ordinal = closure.nextSetBit(ordinal + 1)) {
+            BitSet clashing = (BitSet) conflicts[ordinal].clone();
+            clashing.and(closure);
+            for (int other = clashing.nextSetBit(ordinal + 1); other >= 0; other = clashing.nextSetBit(other + 1)) {
+                clashes.add(index.rule(ordinal).id() + " conflicts with " + index.rule(other).id());
+            }
+        }
+
+        return new DependencyPlan(List.copyOf(rules), Collections.unmodifiableSet(requested),
+                Collections.unmodifiableSet(added), List.copyOf(clashes));
+    }
+
+    private BitSet edges(DependencyRule rule, String kind, List<String> targets) {
+        BitSet edges = new BitSet(index.size());
+        for (String target : targets) {
+            edges.set(ordinal(rule, kind, target));
+        }
+        return edges;
+    }
+
+    private int[][] requirements(DependencyRule rule) {
+        int[][] groups = new int[rule.requires().size()][];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = Arrays.stream(rule.requires().get(i).split("\\|"))
+                    .mapToInt(target -> ordinal(rule, "requires", target.trim()))
+                    .toArray();
+        }
+        return groups;
+    }
+
+    private int ordinal(DependencyRule rule, String kind, String target) {
+        int ordinal = index.ordinal(target);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Dependency rule '" + rule.id() + "' " + kind + " unknown rule: " + target);
+        }
+        return ordinal;
+    }
+
+    private int[] topologicalOrder(BitSet[] requires) {
+        int size = requires.length;
+        int[] pendingRequirements = new int[size];
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            pendingRequirements[ordinal] = requires[ordinal].cardinality();
+            for (int required = requires[ordinal].nextSetBit(0); required >= 0; required = requires[ordinal].nextSetBit(required + 1)) {
+                dependents.get(required).add(ordinal);
+            }
+        }
+
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (pendingRequirements[ordinal] == 0) {
+                ready.add(ordinal);
+            }
+        }
+
+        int[] sorted = new int[size];
+        int count = 0;
+        while (!ready.isEmpty()) {
+            int ordinal = ready.poll();
+            sorted[count++] = ordinal;
+            for (int dependent : dependents.get(ordinal)) {
+                if (--pendingRequirements[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (count < size) {
+            List<String> cyclic = new ArrayList<>();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (pendingRequirements[ordinal] > 0) {
+                    cyclic.add(index.rule(ordinal).id());
+                }
+            }
+            throw new IllegalArgumentException("Cyclic dependency rule requirements: " + cyclic);
+        }
+        return sorted;
+    }
+}
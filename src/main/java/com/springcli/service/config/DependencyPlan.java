@@ -0,0 +1,21 @@
+package com.springcli.service.config;
+
+import com.springcli.model.rules.DependencyRule;
+
+import java.util.List;
+import java.util.Set;
+
+public record DependencyPlan(
+        List<DependencyRule> rules,
+        Set<String> requested,
+        Set<String> added,
+        List<String> conflicts
+) {
+    public boolean contains(String dependencyId) {
+        return requested.contains(dependencyId) || added.contains(dependencyId);
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+}
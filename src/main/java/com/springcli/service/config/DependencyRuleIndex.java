@@ -0,0 +1,114 @@
+package com.springcli.service.config;
+
+import com.springcli.model.rules.DependencyRule;
+import com.springcli.model.rules.PropertyConfig;
+
+import java.util.*;
+
+public final class DependencyRuleIndex {
+
+    private final DependencyRule[] rules;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, List<DependencyRule>> byCategory;
+    private final DependencyConfiguration[] configurations;
+    private final List<DependencyRule> all;
+
+    private DependencyRuleIndex(DependencyRule[] rules) {
+        this.rules = rules;
+        this.ordinals = new HashMap<>();
+        this.configurations = new DependencyConfiguration[rules.length];
+
+        Map<String, List<DependencyRule>> categories = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < rules.length; ordinal++) {
+            DependencyRule rule = rules[ordinal];
+            if (ordinals.putIfAbsent(rule.id(), ordinal) != null) {
+                throw new IllegalArgumentException("Duplicate dependency rule: " + rule.id());
+            }
+            if (rule.category() != null) {
+                categories.computeIfAbsent(rule.category(), key -> new ArrayList<>()).add(rule);
+            }
+            configurations[ordinal] = toConfiguration(rule);
+        }
+
+        categories.replaceAll((category, members) -> List.copyOf(members));
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.all = List.of(rules);
+    }
+
+    public static DependencyRuleIndex compile(List<DependencyRule> source) {
+        DependencyRule[] sorted = source.toArray(DependencyRule[]::new);
+        Arrays.sort(sorted, Comparator.comparingInt(DependencyRule::priority).reversed());
+        return new DependencyRuleIndex(sorted);
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    public int ordinal(String dependencyId) {
+        Integer ordinal = dependencyId == null ? null : ordinals.get(dependencyId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public DependencyRule rule(int ordinal) {
+        return rules[ordinal];
+    }
+
+    public Optional<DependencyRule> find(String dependencyId) {
+        int ordinal = ordinal(dependencyId);
+        return ordinal < 0 ? Optional.empty() : Optional.of(rules[ordinal]);
+    }
+
+    public Optional<DependencyConfiguration> configuration(String dependencyId) {
+        int ordinal = ordinal(dependencyId);
+        return ordinal < 0 ? Optional.empty() : Optional.of(configurations[ordinal]);
+    }
+
+    public DependencyConfiguration configuration(int ordinal) {
+        return configurations[ordinal];
+    }
+
+    public BitSet select(Collection<String> dependencyIds) {
+        BitSet selection = new BitSet(rules.length);
+        for (String dependencyId : dependencyIds) {
+            int ordinal = ordinal(dependencyId);
+            if (ordinal >= 0) {
+                selection.set(ordinal);
+            }
+        }
+        return selection;
+    }
+
+    public List<DependencyRule> rules(BitSet selection) {
+        List<DependencyRule> selected = new ArrayList<>(selection.cardinality());
+        for (int ordinal = selection.nextSetBit(0); ordinal >= 0; ordinal = selection.nextSetBit(ordinal + 1)) {
+            selected.add(rules[ordinal]);
+        }
+        return selected;
+    }
+
+    public List<DependencyRule> all() {
+        return all;
+    }
+
+    public List<DependencyRule> byCategory(String category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    public Set<String> categories() {
+        return byCategory.keySet();
+    }
+
+    private static DependencyConfiguration toConfiguration(DependencyRule rule) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (rule.runtime() != null && rule.runtime().properties() != null) {
+            for (PropertyConfig property : rule.runtime().properties()) {
+                properties.put(property.key(), property.value());
+            }
+        }
+
+        return DependencyConfiguration.builder(rule.id())
+                .requiredProperties(Collections.unmodifiableMap(properties))
+                .build();
+    }
+}
@@ -1,15 +1,25 @@
 package com.springcli.web.controller;
 
+import com.springcli.infra.filesystem.ProjectTree;
 import com.springcli.model.*;
 import com.springcli.service.*;
 import com.springcli.web.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,12 +31,14 @@ public class WebGuiController {
 
     private final MetadataService metadataService;
     private final PresetService presetService;
-    private final ProjectGeneratorService projectGeneratorService;
+    private final GenerationJobService generationJobService;
 
     @GetMapping("/metadata")
-    public ResponseEntity<SpringMetadata> getMetadata() {
+    public ResponseEntity<byte[]> getMetadata() {
         try {
-            return ResponseEntity.ok(metadataService.getMetadata());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(metadataService.getMetadataJson());
         } catch (Exception e) {
             log.error("Failed to fetch metadata", e);
             return ResponseEntity.internalServerError().build();
@@ -70,56 +82,76 @@ public class WebGuiController {
 
     @GetMapping("/features")
     public ResponseEntity<List<FeatureInfo>> getFeatures() {
-        List<FeatureInfo> features = Arrays.asList(
-                new FeatureInfo("enableJwt", "JWT Authentication", "Add JWT token-based authentication", "fa-shield-alt"),
-                new FeatureInfo("enableSwagger", "Swagger/OpenAPI", "Generate interactive API documentation", "fa-file-code"),
-                new FeatureInfo("enableCors", "CORS Configuration", "Enable Cross-Origin Resource Sharing", "fa-globe"),
-                new FeatureInfo("enableExceptionHandler", "Exception Handler", "Global exception handling mechanism", "fa-exclamation-triangle"),
-                new FeatureInfo("enableMapStruct", "MapStruct", "Object mapping library for DTOs", "fa-map-signs"),
-                new FeatureInfo("enableDocker", "Docker Support", "Dockerfile and docker-compose", "fa-docker"),
-                new FeatureInfo("enableKubernetes", "Kubernetes", "K8s deployment manifests", "fa-dharmachakra"),
-                new FeatureInfo("enableCiCd", "CI/CD Pipeline", "GitHub Actions workflow", "fa-sync"),
-                new FeatureInfo("enableAudit", "Audit Logging", "Track entity changes", "fa-history")
-        );
+        List<FeatureInfo> features = FeatureRegistry.all().stream()
+                .map(feature -> new FeatureInfo(feature.id(), feature.label(), feature.description(), feature.icon()))
+                .toList();
         return ResponseEntity.ok(features);
     }
 
     @PostMapping("/generate")
-    public ResponseEntity<GenerationResponse> generateProject(@RequestBody GenerationRequest request) {
+    public ResponseEntity<?> generateProject(@RequestBody GenerationRequest request) {
         try {
             log.info("Generating project via Web API: {}", request.projectName());
 
-            ProjectConfig config = ProjectConfig.builder()
-                    .groupId(request.groupId())
-                    .artifactId(request.artifactId())
-                    .name(request.projectName())
-                    .description(request.description())
-                    .packageName(request.packageName())
-                    .springBootVersion(request.springBootVersion())
-                    .javaVersion(request.javaVersion())
-                    .language(request.language())
-                    .buildTool(request.buildTool())
-                    .packaging(request.packaging())
-                    .dependencies(request.dependencies())
-                    .architecture(Architecture.valueOf(request.architecture()))
-                    .features(request.features())
-                    .outputDirectory(request.outputPath())
-                    .build();
-
-            projectGeneratorService.generateProject(config);
-
-            return ResponseEntity.ok(new GenerationResponse(
-                    true,
-                    "Project generated successfully at: " + request.outputPath(),
-                    request.outputPath()
-            ));
+            ProjectConfig config = request.toProjectConfig();
+
+            GenerationJob job = generationJobService.submit(config);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.id()))
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            log.warn("Generation queue is full, rejecting request for {}", request.projectName());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(new GenerationResponse(false, "Generation queue is full, please retry shortly", null));
         } catch (Exception e) {
             log.error("Failed to generate project", e);
-            return ResponseEntity.ok(new GenerationResponse(
+            return ResponseEntity.badRequest().body(new GenerationResponse(
                     false,
                     "Failed to generate project: " + e.getMessage(),
                     null
             ));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/generate", params = "format=zip", produces = "application/zip")
+    public ResponseEntity<?> generateProjectZip(@RequestBody GenerationRequest request) {
+        ProjectConfig config;
+        ProjectTree tree;
+        try {
+            config = request.toProjectConfig();
+            tree = generationJobService.build(config);
+        } catch (RejectedExecutionException e) {
+            log.warn("Generation queue is full, rejecting zip request for {}", request.projectName());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new GenerationResponse(false, "Generation queue is full, please retry shortly", null));
+        } catch (Exception e) {
+            log.error("Failed to generate project archive", e);
+            return ResponseEntity.internalServerError()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new GenerationResponse(false, "Failed to generate project: " + e.getMessage(), null));
+        }
+
+        String fileName = config.artifactId().replaceAll("[^A-Za-z0-9._-]", "_");
+        StreamingResponseBody body = out -> tree.writeZip(out, fileName);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + ".zip\"")
+                .body(body);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<GenerationJob> getJob(@PathVariable String id) {
+        return ResponseEntity.of(generationJobService.find(id));
+    }
+
+    @GetMapping(value = "/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> streamJob(@PathVariable String id) {
+        return ResponseEntity.of(generationJobService.events(id).map(events -> Flux.concat(
+                events.map(event -> ServerSentEvent.<Object>builder(event).event("stage").build()),
+                Mono.defer(() -> Mono.justOrEmpty(generationJobService.find(id)))
+                        .map(job -> ServerSentEvent.<Object>builder(job).event("complete").build())
+        )));
+    }
+}
@@ -1,6 +1,9 @@
 package com.springcli.web.dto;
 
+import com.springcli.model.Architecture;
+import com.springcli.model.ProjectConfig;
 import com.springcli.model.ProjectFeatures;
+
 import java.util.Set;
 
 public record GenerationRequest(
@@ -18,4 +21,24 @@ public record GenerationRequest(
         Set<String> dependencies,
         ProjectFeatures features,
         String outputPath
-) {}
\ No newline at end of file
+) {
+
+    public ProjectConfig toProjectConfig() {
+        return ProjectConfig.builder()
+                .groupId(groupId)
+                .artifactId(artifactId)
+                .name(projectName)
+                .description(description)
+                .packageName(packageName)
+                .springBootVersion(springBootVersion)
+                .javaVersion(javaVersion)
+                .language(language)
+                .buildTool(buildTool)
+                .packaging(packaging == null || packaging.isBlank() ? "jar" : packaging)
+                .dependencies(dependencies)
+                .architecture(Architecture.valueOf(architecture))
+                .features(features)
+                .outputDirectory(outputPath)
+                .build();
+    }
+}
\ No newline at end of file
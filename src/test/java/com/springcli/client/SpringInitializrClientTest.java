@@ -0,0 +1,84 @@
+package com.springcli.client;
+
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.SpringMetadata;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SpringInitializrClientTest {
+
+    private static final String ETAG = "\"metadata-v1\"";
+    private static final String METADATA = """
+            {"bootVersion": {"default": "3.4.1", "values": [{"id": "3.4.1"}]},
+             "javaVersion": {"default": "17", "values": [{"id": "17"}, {"id": "21"}]},
+             "type": {"default": "maven-project", "values": [{"id": "maven-project", "name": "Maven"}]},
+             "dependencies": {"values": [{"name": "Web", "values": [{"id": "web", "name": "Spring Web"}]}]}}
+            """;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    private HttpServer server;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+
+    @BeforeEach
+    void startStub() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/metadata/client", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            fullResponses.incrementAndGet();
+            byte[] body = METADATA.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("ETag", ETAG);
+            exchange.getResponseHeaders().set("Last-Modified", "Wed, 15 Oct 2025 10:00:00 GMT");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldExtendCachedMetadataWhenServerReportsNotModified() {
+        SpringInitializrClient client = new SpringInitializrClient(webClientBuilder, jsonCodec,
+                "http://127.0.0.1:" + server.getAddress().getPort());
+
+        SpringMetadata first = client.fetchMetadata();
+        assertThat(first.etag()).isEqualTo(ETAG);
+        assertThat(first.lastModified()).isEqualTo("Wed, 15 Oct 2025 10:00:00 GMT");
+        assertThat(first.dependencyGroups()).containsKey("Web");
+
+        SpringMetadata stale = first.withCachedAt(0L);
+        SpringMetadata refreshed = client.fetchMetadata(stale);
+
+        assertThat(fullResponses).hasValue(1);
+        assertThat(refreshed.cachedAt()).isGreaterThan(0L);
+        assertThat(refreshed.withCachedAt(0L)).isEqualTo(stale);
+    }
+}
@@ -0,0 +1,155 @@
+package com.springcli.infra.filesystem;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FileSystemServiceTest {
+
+    @Autowired
+    private FileSystemService service;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldLeaveSourceStreamOpenAfterReadingZip() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(zip("demo/pom.xml", "<project/>"))) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        ProjectTree tree = service.readZip(in, "demo");
+
+        assertThat(closed).isFalse();
+        assertThat(tree.exists("pom.xml")).isTrue();
+    }
+
+    @Test
+    void shouldRejectZipEntriesThatEscapeProjectRoot() throws Exception {
+        byte[] zip = zip("demo/pom.xml", "<project/>", "demo/../../evil.txt", "boom");
+
+        assertThatThrownBy(() -> service.readZip(new ByteArrayInputStream(zip), "demo"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("escapes project root");
+    }
+
+    @Test
+    void shouldRejectTreePathsThatEscapeProjectRoot() {
+        ProjectTree tree = new ProjectTree();
+
+        assertThatThrownBy(() -> tree.put("src/../../evil.txt", "boom"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.addDirectory("../outside"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    void shouldReadZipIntoTreeRelativeToProjectRoot() throws Exception {
+        byte[] zip = zip(
+                "demo/", null,
+                "demo/src/main/resources/static/", null,
+                "demo/pom.xml", "<project/>",
+                "other/README.md", "ignored"
+        );
+
+        ProjectTree tree = service.readZip(new ByteArrayInputStream(zip), "demo");
+
+        assertThat(tree.paths()).containsExactly("pom.xml");
+        assertThat(tree.read("pom.xml")).contains("<project/>");
+        assertThat(tree.hasDirectory("src/main/resources/static")).isTrue();
+        assertThatThrownBy(() -> service.readZip(new ByteArrayInputStream(zip), "missing"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldMarkWrapperScriptsFromStarterZipExecutable() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(bytes)) {
+            for (String name : new String[]{"demo/mvnw", "demo/mvnw.cmd", "demo/pom.xml"}) {
+                ZipArchiveEntry entry = new ZipArchiveEntry(name);
+                entry.setUnixMode(name.endsWith("mvnw") ? 0100755 : 0100644);
+                zipOut.putArchiveEntry(entry);
+                zipOut.write("content".getBytes(StandardCharsets.UTF_8));
+                zipOut.closeArchiveEntry();
+            }
+        }
+
+        ProjectTree tree = service.readZip(new ByteArrayInputStream(bytes.toByteArray()), "demo");
+
+        assertThat(tree.isExecutable("mvnw")).isTrue();
+        assertThat(tree.isExecutable("mvnw.cmd")).isFalse();
+        assertThat(tree.isExecutable("pom.xml")).isFalse();
+    }
+
+    @Test
+    void shouldWriteTreeAndLeaveNoStagingDirectory() throws Exception {
+        ProjectTree tree = new ProjectTree();
+        tree.put("pom.xml", "<project/>");
+        tree.put("src/main/java/com/example/DemoApplication.java", "package com.example;");
+        tree.putExecutable("mvnw", "#!/bin/sh".getBytes(StandardCharsets.UTF_8));
+        tree.addDirectory("src/main/resources/static");
+
+        Path projectRoot = tempDir.resolve("out/demo");
+        service.writeTree(tree, projectRoot);
+
+        assertThat(Files.readString(projectRoot.resolve("pom.xml"))).isEqualTo("<project/>");
+        assertThat(projectRoot.resolve("src/main/java/com/example/DemoApplication.java")).exists();
+        assertThat(projectRoot.resolve("src/main/resources/static")).isDirectory();
+        assertThat(Files.isExecutable(projectRoot.resolve("mvnw"))).isTrue();
+        try (Stream<Path> siblings = Files.list(tempDir.resolve("out"))) {
+            assertThat(siblings).containsExactly(projectRoot);
+        }
+    }
+
+    @Test
+    void shouldMergeTreeIntoExistingDirectory() throws Exception {
+        Path projectRoot = tempDir.resolve("demo");
+        Files.createDirectories(projectRoot);
+        Files.writeString(projectRoot.resolve("notes.txt"), "keep");
+
+        ProjectTree tree = new ProjectTree();
+        tree.put("pom.xml", "<project/>");
+        service.writeTree(tree, projectRoot);
+
+        assertThat(projectRoot.resolve("notes.txt")).exists();
+        assertThat(projectRoot.resolve("pom.xml")).exists();
+    }
+
+    private byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(bytes)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zipOut.putArchiveEntry(new ZipArchiveEntry(namesAndContents[i]));
+                if (namesAndContents[i + 1] != null) {
+                    zipOut.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                }
+                zipOut.closeArchiveEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
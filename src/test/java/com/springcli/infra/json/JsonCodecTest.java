@@ -0,0 +1,55 @@
+package com.springcli.infra.json;
+
+import com.springcli.model.Architecture;
+import com.springcli.model.FeatureRegistry;
+import com.springcli.model.GenerationEvent;
+import com.springcli.model.GenerationStage;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.UserConfig;
+import com.springcli.web.dto.GenerationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JsonCodecTest {
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    @Test
+    void shouldReuseReadersAndWritersPerType() {
+        assertThat(jsonCodec.reader(GenerationRequest.class)).isSameAs(jsonCodec.reader(GenerationRequest.class));
+        assertThat(jsonCodec.writer(GenerationEvent.class)).isSameAs(jsonCodec.writer(GenerationEvent.class));
+        assertThat(jsonCodec.prettyWriter(UserConfig.class)).isSameAs(jsonCodec.prettyWriter(UserConfig.class));
+    }
+
+    @Test
+    void shouldDecodeGenerationRequestIntoProjectConfig() throws Exception {
+        String json = """
+                {"groupId":"com.example","artifactId":"shop","architecture":"LAYERED",
+                 "dependencies":["web","web"],"features":{"enableDocker":true},"unknown":1}
+                """;
+
+        GenerationRequest request = jsonCodec.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), GenerationRequest.class);
+        ProjectConfig config = request.toProjectConfig();
+
+        assertThat(config.architecture()).isEqualTo(Architecture.LAYERED);
+        assertThat(config.packaging()).isEqualTo("jar");
+        assertThat(config.dependencies()).containsExactly("web");
+        assertThat(config.features().enabled(FeatureRegistry.DOCKER)).isTrue();
+        assertThat(config.features().enabled(FeatureRegistry.JWT)).isFalse();
+    }
+
+    @Test
+    void shouldEncodeRecordsWithDerivedLabel() throws Exception {
+        String json = new String(jsonCodec.write(new GenerationEvent(GenerationStage.RENDER, 4, 12, null)), StandardCharsets.UTF_8);
+
+        assertThat(json).contains("\"stage\":\"RENDER\"", "\"files\":4", "\"label\":\"Rendering files\"");
+    }
+}
@@ -0,0 +1,91 @@
+package com.springcli.service;
+
+import com.springcli.model.Architecture;
+import com.springcli.model.ProjectConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class BatchGenerationServiceTest {
+
+    @Autowired
+    private BatchGenerationService service;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMergeManifestDefaultsIntoEachProject() throws Exception {
+        Path manifest = writeManifest();
+
+        List<ProjectConfig> configs = service.loadManifest(manifest);
+
+        assertThat(configs).hasSize(3);
+        assertThat(configs.get(0).groupId()).isEqualTo("com.acme");
+        assertThat(configs.get(0).architecture()).isEqualTo(Architecture.LAYERED);
+        assertThat(configs.get(1).architecture()).isEqualTo(Architecture.CLEAN);
+        assertThat(configs.get(1).entities()).containsExactly("Invoice", "Payment");
+        assertThat(configs.get(1).features().enableDocker()).isFalse();
+    }
+
+    @Test
+    void shouldRejectManifestEntriesThatAreNotObjects() throws Exception {
+        Path manifest = tempDir.resolve("services.yml");
+        Files.writeString(manifest, """
+                projects:
+                  - artifactId: orders
+                    springBootVersion: 3.4.1
+                  - billing
+                """);
+
+        assertThatThrownBy(() -> service.loadManifest(manifest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Manifest entry 2 is not an object");
+    }
+
+    @Test
+    void shouldGenerateProjectsConcurrentlyAndReportDuplicates() throws Exception {
+        List<ProjectConfig> configs = service.loadManifest(writeManifest());
+
+        List<BatchGenerationService.BatchResult> results = service.generateAll(configs, 2);
+
+        assertThat(results).extracting(BatchGenerationService.BatchResult::artifactId)
+                .containsExactly("orders", "billing", "orders");
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(1).success()).isTrue();
+        assertThat(results.get(2).success()).isFalse();
+        assertThat(results.get(2).error()).contains("Duplicate");
+
+        assertThat(tempDir.resolve("out/orders/pom.xml")).exists();
+        assertThat(tempDir.resolve("out/billing/src/main/java/com/acme/billing/domain/model/Payment.java")).exists();
+    }
+
+    private Path writeManifest() throws Exception {
+        Path manifest = tempDir.resolve("services.yml");
+        Files.writeString(manifest, """
+                defaults:
+                  groupId: com.acme
+                  javaVersion: "17"
+                  springBootVersion: 3.4.1
+                  architecture: LAYERED
+                  outputDirectory: %s
+                  dependencies: [web, h2, lombok]
+                projects:
+                  - artifactId: orders
+                  - artifactId: billing
+                    architecture: CLEAN
+                    entities: [Invoice, Payment]
+                  - artifactId: orders
+                """.formatted(tempDir.resolve("out")));
+        return manifest;
+    }
+}
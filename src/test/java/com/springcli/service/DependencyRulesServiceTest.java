@@ -2,6 +2,9 @@ package com.springcli.service;
 
 import com.springcli.model.rules.DependencyRule;
 import com.springcli.model.rules.MavenDependency;
+import com.springcli.service.config.DependencyGraph;
+import com.springcli.service.config.DependencyPlan;
+import com.springcli.service.config.DependencyRuleIndex;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class DependencyRulesServiceTest {
@@ -178,4 +182,64 @@ class DependencyRulesServiceTest {
         assertThat(rule.get().runtime()).isNotNull();
         assertThat(rule.get().scaffolding()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnRulesInTheSameOrderRegardlessOfInputOrder() {
+        List<DependencyRule> forward = service.getRules(List.of("redis", "lombok", "postgresql", "mapstruct", "kafka"));
+        List<DependencyRule> reversed = service.getRules(List.of("kafka", "mapstruct", "postgresql", "lombok", "redis"));
+
+        assertThat(forward).containsExactlyElementsOf(reversed);
+        assertThat(forward.get(0).id()).isEqualTo("lombok");
+    }
+
+    @Test
+    void shouldIndexRulesByCategory() {
+        List<DependencyRule> dataRules = service.getRulesByCategory("DATA");
+
+        assertThat(dataRules).extracting(DependencyRule::id).contains("postgresql", "mysql", "redis");
+        assertThat(dataRules).allMatch(rule -> rule.category().equals("DATA"));
+        assertThat(service.getRulesByCategory("UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    void shouldResolveRequiredAndImpliedRulesBeforeTheirDependents() {
+        DependencyPlan plan = service.resolve(List.of("jwt", "kafka", "lombok"));
+
+        assertThat(plan.requested()).containsExactlyInAnyOrder("jwt", "kafka", "lombok");
+        assertThat(plan.added()).containsExactlyInAnyOrder("security", "kafka-zookeeper");
+        assertThat(plan.rules()).extracting(DependencyRule::id)
+                .containsSubsequence("security", "jwt")
+                .startsWith("lombok");
+        assertThat(plan.hasConflicts()).isFalse();
+        assertThat(service.resolve(List.of("lombok", "kafka", "jwt"))).isSameAs(plan);
+    }
+
+    @Test
+    void shouldSatisfyAlternativeRequirementWithAnySelectedStack() {
+        assertThat(service.resolve(List.of("webflux", "graphql")).added()).isEmpty();
+        assertThat(service.resolve(List.of("graphql", "cors")).added()).containsExactly("web");
+        assertThat(service.resolve(List.of("webflux", "cors")).rules()).extracting(DependencyRule::id)
+                .doesNotContain("web");
+    }
+
+    @Test
+    void shouldDetectConflictsAndRequirementCycles() {
+        DependencyGraph graph = DependencyGraph.compile(DependencyRuleIndex.compile(List.of(
+                rule("web", List.of(), List.of()),
+                rule("webflux", List.of(), List.of("web")),
+                rule("swagger", List.of("web"), List.of()))));
+
+        assertThat(graph.resolve(List.of("swagger", "webflux")).conflicts())
+                .containsExactly("web conflicts with webflux");
+
+        assertThatThrownBy(() -> DependencyGraph.compile(DependencyRuleIndex.compile(List.of(
+                rule("a", List.of("b"), List.of()),
+                rule("b", List.of("a"), List.of())))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cyclic");
+    }
+
+    private DependencyRule rule(String id, List<String> requires, List<String> conflicts) {
+        return new DependencyRule(id, "TEST", 0, requires, null, conflicts, null, null, null, null);
+    }
+}
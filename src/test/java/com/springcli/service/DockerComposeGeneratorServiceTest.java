@@ -60,6 +60,13 @@ class DockerComposeGeneratorServiceTest {
         assertThat(dockerCompose).contains("depends_on:");
     }
 
+    @Test
+    void shouldAddZookeeperImpliedByKafka() {
+        String dockerCompose = service.generateDockerCompose(Set.of("kafka"));
+
+        assertThat(dockerCompose).contains("zookeeper:");
+    }
+
     @Test
     void shouldReturnNullForNonInfraDependencies() {
         Set<String> dependencies = Set.of("lombok", "mapstruct");
@@ -0,0 +1,81 @@
+package com.springcli.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EntitySchemaServiceTest {
+
+    @Autowired
+    private EntitySchemaService service;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseCommaSeparatedNames() {
+        assertThat(service.resolveEntities("customer, order_item ,Customer, invoice"))
+                .containsExactly("Customer", "OrderItem", "Invoice");
+    }
+
+    @Test
+    void shouldDefaultToDemoEntity() {
+        assertThat(service.resolveEntities("  ")).containsExactly("Demo");
+    }
+
+    @Test
+    void shouldLoadJsonSchema() throws Exception {
+        Path schema = tempDir.resolve("entities.json");
+        Files.writeString(schema, "{\"entities\": [\"Customer\", {\"name\": \"Order\"}]}");
+
+        assertThat(service.resolveEntities(schema.toString())).containsExactly("Customer", "Order");
+    }
+
+    @Test
+    void shouldLoadYamlSchema() throws Exception {
+        Path schema = tempDir.resolve("entities.yml");
+        Files.writeString(schema, "entities:\n  - name: product\n  - category\n");
+
+        assertThat(service.loadEntities(schema)).containsExactly("Product", "Category");
+    }
+
+    @Test
+    void shouldDeriveEntitiesFromDdl() throws Exception {
+        Path schema = tempDir.resolve("schema.sql");
+        Files.writeString(schema, """
+                CREATE TABLE customers (id BIGINT PRIMARY KEY);
+                create table if not exists public."order_items" (id BIGINT);
+                CREATE TABLE `categories` (id BIGINT);
+                CREATE TABLE addresses (id BIGINT);
+                """);
+
+        assertThat(service.loadEntities(schema)).containsExactly("Customer", "OrderItem", "Category", "Address");
+    }
+
+    @Test
+    void shouldKeepTableNamesThatAreAlreadySingular() throws Exception {
+        Path schema = tempDir.resolve("schema.ddl");
+        Files.writeString(schema, """
+                CREATE TABLE status (id BIGINT);
+                CREATE TABLE bus (id BIGINT);
+                CREATE TABLE analysis (id BIGINT);
+                CREATE TABLE access (id BIGINT);
+                """);
+
+        assertThat(service.loadEntities(schema)).containsExactly("Status", "Bus", "Analysis", "Access");
+    }
+
+    @Test
+    void shouldRejectInvalidNames() {
+        assertThatThrownBy(() -> service.resolveEntities("42things"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.springcli.service;
+
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.model.Architecture;
+import com.springcli.model.GenerationEvent;
+import com.springcli.model.GenerationJob;
+import com.springcli.model.GenerationStage;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.ProjectFeatures;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class GenerationJobServiceTest {
+
+    @Test
+    void shouldReportCompletionOfSubmittedJob() throws Exception {
+        ProjectGeneratorService generator = mock(ProjectGeneratorService.class);
+        doAnswer(invocation -> {
+            Consumer<GenerationEvent> progress = invocation.getArgument(1);
+            progress.accept(new GenerationEvent(GenerationStage.RENDER, 3, 5, null));
+            return null;
+        }).when(generator).generateProject(any(), any());
+        ExecutorService executor = boundedExecutor(1);
+        GenerationJobService jobService = new GenerationJobService(generator, executor);
+
+        GenerationJob queued = jobService.submit(config("demo"));
+        assertThat(queued.status()).isEqualTo(GenerationJob.Status.QUEUED);
+
+        GenerationJob finished = awaitFinished(jobService, queued.id());
+        assertThat(finished.status()).isEqualTo(GenerationJob.Status.SUCCEEDED);
+        assertThat(finished.startedAt()).isNotNull();
+        assertThat(finished.finishedAt()).isGreaterThanOrEqualTo(finished.startedAt());
+        assertThat(finished.stages()).extracting(GenerationEvent::stage).containsExactly(GenerationStage.RENDER);
+        assertThat(jobService.events(queued.id()).orElseThrow().collectList().block(Duration.ofSeconds(1)))
+                .extracting(GenerationEvent::files)
+                .containsExactly(3);
+        verify(generator).generateProject(any(), any());
+
+        doThrow(new IllegalStateException("disk full")).when(generator).generateProject(any(), any());
+        GenerationJob failed = awaitFinished(jobService, jobService.submit(config("broken")).id());
+        assertThat(failed.status()).isEqualTo(GenerationJob.Status.FAILED);
+        assertThat(failed.message()).contains("disk full");
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRejectSubmissionsBeyondQueueCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ProjectGeneratorService generator = mock(ProjectGeneratorService.class);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(generator).generateProject(any(), any());
+
+        ExecutorService executor = boundedExecutor(1);
+        GenerationJobService jobService = new GenerationJobService(generator, executor);
+
+        GenerationJob running = jobService.submit(config("first"));
+        GenerationJob waiting = jobService.submit(config("second"));
+
+        assertThatThrownBy(() -> jobService.submit(config("third")))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(awaitFinished(jobService, running.id()).status()).isEqualTo(GenerationJob.Status.SUCCEEDED);
+        assertThat(awaitFinished(jobService, waiting.id()).status()).isEqualTo(GenerationJob.Status.SUCCEEDED);
+        assertThat(jobService.find("unknown")).isEmpty();
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldBuildProjectInMemoryOnJobExecutor() throws Exception {
+        ProjectTree staged = new ProjectTree();
+        staged.put("pom.xml", "<project/>");
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> builder = new AtomicReference<>();
+        ProjectGeneratorService generator = mock(ProjectGeneratorService.class);
+        when(generator.buildProject(any())).thenAnswer(invocation -> {
+            builder.set(Thread.currentThread());
+            return staged;
+        });
+
+        ExecutorService executor = boundedExecutor(1);
+        GenerationJobService jobService = new GenerationJobService(generator, executor);
+
+        assertThat(jobService.build(config("demo"))).isSameAs(staged);
+        assertThat(builder.get()).isNotNull().isNotSameAs(caller);
+        verify(generator, never()).generateProject(any(), any());
+
+        doThrow(new IllegalArgumentException("bad config")).when(generator).buildProject(any());
+        assertThatThrownBy(() -> jobService.build(config("demo")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad config");
+
+        executor.shutdownNow();
+    }
+
+    private ExecutorService boundedExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    private GenerationJob awaitFinished(GenerationJobService jobService, String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            GenerationJob job = jobService.find(id).orElseThrow();
+            if (job.isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+
+    private ProjectConfig config(String artifactId) {
+        return ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId(artifactId)
+                .name(artifactId)
+                .packageName("com.example." + artifactId)
+                .javaVersion("17")
+                .springBootVersion("3.4.1")
+                .buildTool("maven")
+                .packaging("jar")
+                .architecture(Architecture.MVC)
+                .dependencies(Set.of("web"))
+                .features(ProjectFeatures.defaults())
+                .outputDirectory("/tmp/" + artifactId)
+                .build();
+    }
+}
@@ -305,4 +305,97 @@ class GradleManipulationServiceTest {
         assertThat(jjwtPosition).isGreaterThan(dependenciesStart);
         assertThat(jjwtPosition).isLessThan(dependenciesEnd);
     }
-}
\ No newline at end of file
+
+    private final String initializrGradle = """
+        plugins {
+        	id 'java'
+        	id 'org.springframework.boot' version '3.4.1'
+        	id 'io.spring.dependency-management' version '1.1.7'
+        }
+
+        // dependencies { }
+        dependencies {
+        	implementation 'org.springframework.boot:spring-boot-starter-web'
+        	compileOnly 'org.projectlombok:lombok'
+        	annotationProcessor 'org.projectlombok:lombok'
+        }
+
+        tasks.named('test') {
+        	useJUnitPlatform()
+        }
+        """;
+
+    @Test
+    void shouldEditExistingBlocksInPlace() {
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.4.1")
+                .dependencies(Set.of())
+                .features(new ProjectFeatures(true, false, false, false, true, false, false, false, false))
+                .build();
+
+        String enhanced = service.enhanceGradleFile(initializrGradle, config);
+
+        assertThat(enhanced).startsWith("plugins {\n\tid 'java'");
+        assertThat(enhanced).contains("\n\truntimeOnly \"io.jsonwebtoken:jjwt-impl");
+        assertThat(enhanced).contains("\tannotationProcessor \"org.projectlombok:lombok-mapstruct-binding");
+        assertThat(enhanced.split("annotationProcessor 'org.projectlombok:lombok'")).hasSize(2);
+        assertThat(enhanced).doesNotContain("annotationProcessor \"org.projectlombok:lombok:");
+        assertThat(enhanced).contains("tasks.named('test') {\n\tuseJUnitPlatform()\n\ttestLogging {");
+        assertThat(enhanced).doesNotContain("\ntest {");
+        assertThat(enhanced).contains("// dependencies { }\ndependencyManagement {");
+    }
+
+    @Test
+    void shouldUseKotlinDslSyntax() {
+        String kotlinGradle = """
+            plugins {
+                java
+                id("org.springframework.boot") version "3.4.1"
+            }
+
+            dependencies {
+                implementation("org.springframework.boot:spring-boot-starter-web")
+            }
+            """;
+
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.4.1")
+                .dependencies(Set.of())
+                .features(new ProjectFeatures(false, true, false, false, false, false, false, false, false))
+                .build();
+
+        String enhanced = service.enhanceGradleFile(kotlinGradle, config, GradleScript.Dialect.KOTLIN);
+
+        assertThat(enhanced).contains("    id(\"io.spring.dependency-management\")");
+        assertThat(enhanced).doesNotContain("id(\"java\")");
+        assertThat(enhanced).contains("mavenBom(\"org.springframework.boot:spring-boot-dependencies:3.4.1\")");
+        assertThat(enhanced).contains("    implementation(\"org.springdoc:springdoc-openapi-starter-webmvc-ui");
+        assertThat(enhanced).contains("tasks.withType<Test> {");
+        assertThat(enhanced).contains("events(\"passed\", \"skipped\", \"failed\")");
+    }
+
+    @Test
+    void shouldBeIdempotent() {
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.4.1")
+                .dependencies(Set.of())
+                .features(ProjectFeatures.all())
+                .build();
+
+        String enhanced = service.enhanceGradleFile(initializrGradle, config);
+
+        assertThat(service.enhanceGradleFile(enhanced, config)).isEqualTo(enhanced);
+    }
+}
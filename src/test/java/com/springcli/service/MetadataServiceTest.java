@@ -0,0 +1,134 @@
+package com.springcli.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.client.SpringInitializrClient;
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.BuildToolOption;
+import com.springcli.model.Dependency;
+import com.springcli.model.DependencyGroup;
+import com.springcli.model.MetadataCacheFormat;
+import com.springcli.model.SpringMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class MetadataServiceTest {
+
+    private static final long DAY_MS = 24 * 60 * 60 * 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldServeStaleCacheAndRefreshInBackground() throws Exception {
+        CacheService cacheService = new CacheService(jsonCodec, tempDir, MetadataCacheFormat.JSON);
+        cacheService.cacheMetadata(metadata("3.3.0", System.currentTimeMillis() - 2 * DAY_MS));
+
+        SpringInitializrClient client = mock(SpringInitializrClient.class);
+        when(client.fetchMetadata(any())).thenReturn(metadata("3.4.1", System.currentTimeMillis()));
+        MetadataService service = new MetadataService(client, cacheService, mock(StarterCacheService.class));
+
+        assertThat(service.getMetadata().defaultSpringBootVersion()).isEqualTo("3.3.0");
+
+        verify(client, timeout(2000)).fetchMetadata(any());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (service.getMetadata().defaultSpringBootVersion().equals("3.3.0") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getMetadata().defaultSpringBootVersion()).isEqualTo("3.4.1");
+        verify(client, times(1)).fetchMetadata(any());
+    }
+
+    @Test
+    void shouldReplaceCacheFileWithoutLeavingTemporaryFiles() throws Exception {
+        CacheService cacheService = new CacheService(jsonCodec, tempDir, MetadataCacheFormat.JSON);
+
+        cacheService.cacheMetadata(metadata("3.3.0", 1L));
+        cacheService.cacheMetadata(metadata("3.4.1", 2L));
+
+        assertThat(cacheService.getCachedMetadata()).hasValueSatisfying(metadata ->
+                assertThat(metadata.defaultSpringBootVersion()).isEqualTo("3.4.1"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(tempDir.resolve("metadata-cache.json"));
+        }
+    }
+
+    @Test
+    void shouldKeepParsedMetadataInMemoryUntilTheFileChanges() throws Exception {
+        Path cacheFile = tempDir.resolve("metadata-cache.json");
+        CacheService cacheService = new CacheService(jsonCodec, tempDir, MetadataCacheFormat.JSON);
+        cacheService.cacheMetadata(metadata("3.3.0", 1L));
+
+        SpringMetadata first = cacheService.getCachedMetadata().orElseThrow();
+        assertThat(cacheService.getCachedMetadata()).containsSame(first);
+        assertThat(cacheService.toJson(first)).isSameAs(cacheService.toJson(first));
+
+        objectMapper.writeValue(cacheFile.toFile(), metadata("3.4.1", 2L));
+        Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(Files.getLastModifiedTime(cacheFile).toMillis() + 1000));
+
+        SpringMetadata reloaded = cacheService.getCachedMetadata().orElseThrow();
+        assertThat(reloaded.defaultSpringBootVersion()).isEqualTo("3.4.1");
+        assertThat(objectMapper.readValue(cacheService.toJson(reloaded), SpringMetadata.class)).isEqualTo(reloaded);
+    }
+
+    @Test
+    void shouldRoundTripBinaryCacheAndRejectCorruptFiles() throws Exception {
+        SpringMetadata original = new SpringMetadata("3.4.1", List.of("3.4.1", "3.3.7"), List.of("17", "21"), List.of("jar"),
+                List.of(new BuildToolOption("maven-project", "Maven", null)), "maven-project", List.of("java", "kotlin"), "java",
+                Map.of("Web", new DependencyGroup("Web", List.of(new Dependency("web", "Spring Web", "Build web apps — ünïcode")))),
+                42L, "\"abc\"", "Wed, 15 Oct 2025 10:00:00 GMT");
+        new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY).cacheMetadata(original);
+
+        CacheService reader = new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY);
+        assertThat(reader.getCachedMetadata()).contains(original);
+
+        Path cacheFile = tempDir.resolve("metadata-cache.bin");
+        reader.cacheMetadata(original.withCachedAt(43L));
+        assertThat(new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY).getCachedMetadata())
+                .hasValueSatisfying(reloaded -> assertThat(reloaded.cachedAt()).isEqualTo(43L));
+        reader.clearCache();
+        assertThat(cacheFile).doesNotExist();
+
+        new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY).cacheMetadata(original);
+        byte[] bytes = Files.readAllBytes(cacheFile);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(cacheFile, bytes);
+
+        assertThat(new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY).getCachedMetadata()).isEmpty();
+    }
+
+    @Test
+    void shouldSwitchCacheFormatWithoutRestart() {
+        CacheService cacheService = new CacheService(jsonCodec, tempDir, MetadataCacheFormat.JSON);
+        cacheService.cacheMetadata(metadata("3.4.1", 42L));
+
+        cacheService.useFormat(MetadataCacheFormat.BINARY);
+
+        assertThat(tempDir.resolve("metadata-cache.json")).doesNotExist();
+        assertThat(tempDir.resolve("metadata-cache.bin")).exists();
+        assertThat(new CacheService(jsonCodec, tempDir, MetadataCacheFormat.BINARY).getCachedMetadata())
+                .hasValueSatisfying(reloaded -> assertThat(reloaded.defaultSpringBootVersion()).isEqualTo("3.4.1"));
+    }
+
+    private SpringMetadata metadata(String bootVersion, long cachedAt) {
+        return new SpringMetadata(bootVersion, null, null, null, null, "maven-project", null, "java", null, cachedAt, null, null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.springcli.service;
 
+import com.springcli.model.FeatureRegistry;
 import com.springcli.model.ProjectConfig;
 import com.springcli.model.ProjectFeatures;
 import org.junit.jupiter.api.Test;
@@ -146,6 +147,24 @@ class PomManipulationServiceTest {
         assertThat(enhanced).contains("org.mapstruct");
     }
 
+    @Test
+    void shouldKeepReactiveStackForWebfluxGraphqlProjects() {
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.2.0")
+                .dependencies(Set.of("webflux", "graphql"))
+                .features(ProjectFeatures.of(FeatureRegistry.CORS))
+                .build();
+
+        String enhanced = service.enhancePomFile(basicPom, config);
+
+        assertThat(enhanced).doesNotContain("spring-boot-starter-web<");
+        assertThat(enhanced).doesNotContain("spring-boot-starter-validation");
+    }
+
     @Test
     void shouldEnsurePluginsSection() {
         ProjectConfig config = ProjectConfig.builder()
@@ -290,4 +309,99 @@ class PomManipulationServiceTest {
         assertThat(jjwtPosition).isGreaterThan(dependenciesStart);
         assertThat(jjwtPosition).isLessThan(dependenciesEnd);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPreserveIndentationAndLineEndings() {
+        String tabbedPom = String.join("\r\n",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<project>",
+                "\t<modelVersion>4.0.0</modelVersion>",
+                "\t<dependencies>",
+                "\t\t<dependency>",
+                "\t\t\t<groupId>org.springframework.boot</groupId>",
+                "\t\t\t<artifactId>spring-boot-starter-web</artifactId>",
+                "\t\t</dependency>",
+                "\t</dependencies>",
+                "</project>",
+                "");
+
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.2.0")
+                .dependencies(Set.of())
+                .features(new ProjectFeatures(true, false, false, false, false, false, false, false, false))
+                .build();
+
+        String enhanced = service.enhancePomFile(tabbedPom, config);
+
+        assertThat(enhanced).contains("\t\t</dependency>\r\n\t\t<dependency>\r\n\t\t\t<groupId>io.jsonwebtoken</groupId>");
+        assertThat(enhanced).contains("\t<build>\r\n\t\t<plugins>\r\n\t\t\t<plugin>");
+        assertThat(enhanced.replace("\r\n", "")).doesNotContain("\n");
+        assertThat(enhanced).doesNotContain("    ");
+    }
+
+    @Test
+    void shouldReplaceExistingAnnotationProcessorPaths() {
+        String pomWithCompiler = """
+            <project>
+                <dependencies>
+                </dependencies>
+                <build>
+                    <plugins>
+                        <plugin>
+                            <groupId>org.apache.maven.plugins</groupId>
+                            <artifactId>maven-compiler-plugin</artifactId>
+                            <configuration>
+                                <annotationProcessorPaths>
+                                    <path>
+                                        <groupId>com.example</groupId>
+                                        <artifactId>legacy-processor</artifactId>
+                                    </path>
+                                </annotationProcessorPaths>
+                            </configuration>
+                        </plugin>
+                    </plugins>
+                </build>
+            </project>
+            """;
+
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.2.0")
+                .dependencies(Set.of())
+                .features(ProjectFeatures.defaults())
+                .build();
+
+        String enhanced = service.enhancePomFile(pomWithCompiler, config);
+
+        assertThat(enhanced).doesNotContain("legacy-processor");
+        assertThat(enhanced.split("maven-compiler-plugin")).hasSize(2);
+        assertThat(enhanced.split("<annotationProcessorPaths>")).hasSize(2);
+        assertThat(enhanced).contains("<annotationProcessorPaths>\n"
+                + "                        <path>\n"
+                + "                            <groupId>org.projectlombok</groupId>");
+    }
+
+    @Test
+    void shouldBeIdempotent() {
+        ProjectConfig config = ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("test-app")
+                .packageName("com.example.test")
+                .javaVersion("17")
+                .springBootVersion("3.2.0")
+                .dependencies(Set.of())
+                .features(ProjectFeatures.all())
+                .build();
+
+        String enhanced = service.enhancePomFile(basicPom, config);
+
+        assertThat(service.enhancePomFile(enhanced, config)).isEqualTo(enhanced);
+    }
+}
@@ -0,0 +1,166 @@
+package com.springcli.service;
+
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.model.Architecture;
+import com.springcli.model.Feature;
+import com.springcli.model.FeatureRegistry;
+import com.springcli.model.GenerationEvent;
+import com.springcli.model.GenerationStage;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.ProjectFeatures;
+import com.springcli.model.TemplateView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.Writer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+class ProjectGeneratorServiceTest {
+
+    @Autowired
+    private ProjectGeneratorService service;
+
+    @MockitoSpyBean
+    private TemplateService templateService;
+
+    @Test
+    void shouldScaffoldEveryEntityForLayeredArchitecture() {
+        ProjectTree tree = service.buildProject(config(Architecture.MVC, List.of("Customer", "Order")));
+
+        String base = "src/main/java/com/example/shop/";
+        assertThat(tree.exists(base + "model/Customer.java")).isTrue();
+        assertThat(tree.exists(base + "controller/OrderController.java")).isTrue();
+        assertThat(tree.read(base + "service/OrderService.java").orElseThrow())
+                .contains("package com.example.shop.service;")
+                .contains("class OrderService");
+        assertThat(tree.paths()).noneMatch(path -> path.contains("Demo"));
+    }
+
+    @Test
+    void shouldPlaceEachEntityInItsOwnFeatureSlice() {
+        ProjectTree tree = service.buildProject(config(Architecture.VERTICAL_SLICE, List.of("Customer", "Order")));
+
+        String base = "src/main/java/com/example/shop/features/";
+        assertThat(tree.hasDirectory(base + "customer")).isTrue();
+        assertThat(tree.hasDirectory(base + "order")).isTrue();
+        assertThat(tree.paths())
+                .filteredOn(path -> path.startsWith(base + "order/"))
+                .allMatch(path -> tree.read(path).orElseThrow().contains("package com.example.shop.features.order"));
+    }
+
+    @Test
+    void shouldDefaultToSingleDemoEntity() {
+        ProjectTree tree = service.buildProject(config(Architecture.MVC, null));
+
+        assertThat(tree.exists("src/main/java/com/example/shop/model/Demo.java")).isTrue();
+    }
+
+    @Test
+    void shouldOnlyScaffoldFilesForEnabledFeatures() {
+        ProjectFeatures features = ProjectFeatures.fromMap(Map.of("enableJwt", true, "enableCors", false, "enableUnknown", true));
+        ProjectTree tree = service.buildProject(config(Architecture.MVC, null, features));
+
+        assertThat(features).isEqualTo(ProjectFeatures.of(FeatureRegistry.JWT));
+        assertThat(features.bits()).isEqualTo(1L);
+        assertThat(FeatureRegistry.JWT.files()).extracting(Feature.FeatureFile::filename).contains("SecurityConfig.java");
+        assertThat(tree.exists("src/main/java/com/example/shop/security/SecurityConfig.java")).isTrue();
+        assertThat(tree.exists("src/main/java/com/example/shop/config/CorsConfig.java")).isFalse();
+    }
+
+    @Test
+    void shouldPlaceFeatureFilesInSharedPackagesForSlicedLayouts() {
+        ProjectFeatures features = ProjectFeatures.of(FeatureRegistry.JWT, FeatureRegistry.EXCEPTION_HANDLER);
+        ProjectTree tree = service.buildProject(config(Architecture.FEATURE_DRIVEN, List.of("Product", "Customer"), features));
+
+        String base = "src/main/java/com/example/shop/";
+        assertThat(tree.exists(base + "shared/security/SecurityConfig.java")).isTrue();
+        assertThat(tree.exists(base + "shared/config/GlobalExceptionHandler.java")).isTrue();
+        assertThat(tree.read(base + "shared/controller/AuthController.java").orElseThrow())
+                .contains("package com.example.shop.shared.controller;")
+                .contains("import com.example.shop.shared.dto.LoginRequest;");
+        assertThat(tree.exists(base + "shared/dto/ErrorResponse.java")).isTrue();
+        assertThat(tree.paths())
+                .filteredOn(path -> path.startsWith(base + "features/"))
+                .noneMatch(path -> path.endsWith("AuthController.java") || path.endsWith("ErrorResponse.java"));
+    }
+
+    @Test
+    void shouldReportTimedStagesWhileBuilding() {
+        List<GenerationEvent> events = new CopyOnWriteArrayList<>();
+        ProjectTree tree = service.buildProject(config(Architecture.MVC, List.of("Customer")), events::add);
+
+        assertThat(events).extracting(GenerationEvent::stage)
+                .contains(GenerationStage.EXTRACT, GenerationStage.RENDER, GenerationStage.BUILD_FILE, GenerationStage.OPS)
+                .doesNotHaveDuplicates();
+        assertThat(events).allMatch(event -> event.durationMillis() >= 0);
+        assertThat(events).filteredOn(event -> event.stage() == GenerationStage.BUILD_FILE)
+                .singleElement()
+                .extracting(GenerationEvent::detail)
+                .isEqualTo("pom.xml");
+        assertThat(events).filteredOn(event -> event.stage() == GenerationStage.RENDER)
+                .singleElement()
+                .satisfies(event -> assertThat(event.files()).isPositive().isLessThan(tree.size()));
+    }
+
+    @Test
+    void shouldProduceEveryOutputWhenManyFeaturesAreEnabled() {
+        ProjectFeatures features = ProjectFeatures.of(FeatureRegistry.JWT, FeatureRegistry.DOCKER, FeatureRegistry.KUBERNETES, FeatureRegistry.CI_CD);
+        ProjectTree tree = service.buildProject(config(Architecture.MVC, List.of("Customer"), features));
+
+        String base = "src/main/java/com/example/shop/";
+        assertThat(tree.exists(base + "model/Customer.java")).isTrue();
+        assertThat(tree.exists(base + "controller/CustomerController.java")).isTrue();
+        assertThat(tree.exists(base + "security/SecurityConfig.java")).isTrue();
+        assertThat(tree.exists("src/main/resources/application.yml")).isTrue();
+        assertThat(tree.exists("src/main/resources/application-prod.yml")).isTrue();
+        assertThat(tree.read("pom.xml").orElseThrow()).contains("jjwt-api");
+        assertThat(tree.exists("Dockerfile")).isTrue();
+        assertThat(tree.exists("docker-compose.yml")).isTrue();
+        assertThat(tree.exists("k8s/deployment.yml")).isTrue();
+        assertThat(tree.exists(".github/workflows/ci.yml")).isTrue();
+        assertThat(tree.exists(".gitignore")).isTrue();
+    }
+
+    @Test
+    void shouldFailGenerationWhenAnyTaskFails() {
+        doThrow(new IllegalStateException("template broke"))
+                .when(templateService).renderOps(eq("kubernetes-deployment"), any(TemplateView.class), any(Writer.class));
+        ProjectConfig config = config(Architecture.MVC, List.of("Customer"), ProjectFeatures.of(FeatureRegistry.DOCKER, FeatureRegistry.KUBERNETES));
+
+        assertThatThrownBy(() -> service.buildProject(config))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("template broke");
+    }
+
+    private ProjectConfig config(Architecture architecture, List<String> entities) {
+        return config(architecture, entities, ProjectFeatures.defaults());
+    }
+
+    private ProjectConfig config(Architecture architecture, List<String> entities, ProjectFeatures features) {
+        return ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("shop")
+                .packageName("com.example.shop")
+                .javaVersion("17")
+                .buildTool("maven-project")
+                .springBootVersion("3.4.1")
+                .architecture(architecture)
+                .dependencies(Set.of("web", "data-jpa", "h2", "lombok"))
+                .features(features)
+                .entities(entities)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.springcli.service;
+
+import com.springcli.infra.filesystem.ProjectTree;
+import com.springcli.model.Architecture;
+import com.springcli.model.ProjectConfig;
+import com.springcli.model.ProjectFeatures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SkeletonGeneratorServiceTest {
+
+    @Autowired
+    private SkeletonGeneratorService service;
+
+    @Test
+    void shouldSynthesizeMavenSkeleton() throws Exception {
+        ProjectConfig config = config("maven-project", "3.4.1", Set.of("web", "lombok", "h2"));
+
+        ProjectTree tree = service.generateSkeleton(config);
+
+        String pom = tree.read("pom.xml").orElseThrow();
+        assertThat(pom).contains("<artifactId>spring-boot-starter-parent</artifactId>");
+        assertThat(pom).contains("<version>3.4.1</version>");
+        assertThat(pom).contains("<java.version>17</java.version>");
+        assertThat(pom).contains("<artifactId>spring-boot-starter-web</artifactId>");
+        assertThat(pom).contains("<artifactId>spring-boot-starter-test</artifactId>");
+        assertThat(pom).contains("<optional>true</optional>");
+        assertThat(pom).doesNotContain("<artifactId>spring-boot-starter</artifactId>");
+
+        assertThat(tree.isExecutable("mvnw")).isTrue();
+        assertThat(tree.exists("mvnw.cmd")).isTrue();
+        assertThat(tree.exists(".mvn/wrapper/maven-wrapper.properties")).isTrue();
+
+        assertThat(tree.read("src/main/java/com/example/orders/OrderServiceApplication.java")).hasValueSatisfying(application ->
+                assertThat(application)
+                        .contains("package com.example.orders;")
+                        .contains("SpringApplication.run(OrderServiceApplication.class, args);"));
+
+        assertThat(tree.exists("src/test/java/com/example/orders/OrderServiceApplicationTests.java")).isTrue();
+        assertThat(tree.read("src/main/resources/application.properties").orElseThrow())
+                .contains("spring.application.name=order-service");
+    }
+
+    @Test
+    void shouldSynthesizeGradleKotlinSkeleton() throws Exception {
+        ProjectConfig config = config("gradle-project-kotlin", "3.4.1", Set.of("web", "lombok"));
+
+        ProjectTree tree = service.generateSkeleton(config);
+
+        String build = tree.read("build.gradle.kts").orElseThrow();
+        assertThat(build).contains("id(\"org.springframework.boot\") version \"3.4.1\"");
+        assertThat(build).contains("implementation(\"org.springframework.boot:spring-boot-starter-web\")");
+        assertThat(build).contains("compileOnly(\"org.projectlombok:lombok\")");
+        assertThat(build).contains("annotationProcessor(\"org.projectlombok:lombok\")");
+        assertThat(build).contains("languageVersion = JavaLanguageVersion.of(17)");
+
+        assertThat(tree.read("settings.gradle.kts").orElseThrow())
+                .contains("rootProject.name = \"order-service\"");
+        assertThat(tree.exists("gradle/wrapper/gradle-wrapper.properties")).isTrue();
+    }
+
+    @Test
+    void shouldAddBaseStarterWhenNoStarterSelected() throws Exception {
+        ProjectConfig config = config("gradle-project", "3.4.1", Set.of("postgresql"));
+
+        ProjectTree tree = service.generateSkeleton(config);
+
+        String build = tree.read("build.gradle").orElseThrow();
+        assertThat(build).contains("implementation 'org.springframework.boot:spring-boot-starter'");
+        assertThat(build).contains("runtimeOnly 'org.postgresql:postgresql'");
+        assertThat(build).doesNotContain("extendsFrom annotationProcessor");
+    }
+
+    @Test
+    void shouldPreferLocalSkeletonOnlyForMaven() {
+        assertThat(service.prefersLocal(config("maven-project", "3.4.1", Set.of("web")))).isTrue();
+        assertThat(service.prefersLocal(config("gradle-project", "3.4.1", Set.of("web")))).isFalse();
+        assertThat(service.supports(config("gradle-project", "3.4.1", Set.of("web")))).isTrue();
+    }
+
+    @Test
+    void shouldNotSupportUnknownDependenciesOrPreReleaseVersions() {
+        assertThat(service.supports(config("maven-project", "3.4.1", Set.of("cloud-eureka")))).isFalse();
+        assertThat(service.supports(config("maven-project", "3.5.0-SNAPSHOT", Set.of("web")))).isFalse();
+        assertThat(service.supports(config("maven-project", "2.7.18", Set.of("web")))).isFalse();
+
+        ProjectConfig unsupported = config("maven-project", "3.4.1", Set.of("cloud-eureka"));
+        assertThatThrownBy(() -> service.generateSkeleton(unsupported))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDeriveApplicationClassName() {
+        assertThat(SkeletonGeneratorService.applicationName("demo")).isEqualTo("DemoApplication");
+        assertThat(SkeletonGeneratorService.applicationName("order-service")).isEqualTo("OrderServiceApplication");
+        assertThat(SkeletonGeneratorService.applicationName("BillingApplication")).isEqualTo("BillingApplication");
+        assertThat(SkeletonGeneratorService.applicationName("42")).isEqualTo("Application");
+    }
+
+    private ProjectConfig config(String buildTool, String bootVersion, Set<String> dependencies) {
+        return ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("order-service")
+                .packageName("com.example.orders")
+                .javaVersion("17")
+                .buildTool(buildTool)
+                .springBootVersion(bootVersion)
+                .architecture(Architecture.MVC)
+                .dependencies(dependencies)
+                .features(ProjectFeatures.defaults())
+                .build();
+    }
+}
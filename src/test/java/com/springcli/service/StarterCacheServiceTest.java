@@ -0,0 +1,163 @@
+package com.springcli.service;
+
+import com.springcli.client.SpringInitializrClient;
+import com.springcli.infra.json.JsonCodec;
+import com.springcli.model.ProjectConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StarterCacheServiceTest {
+
+    private static final long DAY_MS = 24 * 60 * 60 * 1000;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    @Autowired
+    private SpringInitializrClient initializrClient;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldProduceSameKeyRegardlessOfParameterOrder() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("type", "maven-project");
+        first.put("artifactId", "demo");
+
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("artifactId", "demo");
+        second.put("type", "maven-project");
+
+        assertThat(StarterCacheService.cacheKey(first)).isEqualTo(StarterCacheService.cacheKey(second));
+        assertThat(StarterCacheService.cacheKey(first)).isNotEqualTo(StarterCacheService.cacheKey(Map.of("artifactId", "other")));
+    }
+
+    @Test
+    void shouldProduceSameKeyRegardlessOfDependencyOrder() {
+        ProjectConfig first = starterConfig(new LinkedHashSet<>(List.of("web", "data-jpa", "lombok")));
+        ProjectConfig second = starterConfig(new LinkedHashSet<>(List.of("lombok", "web", "data-jpa")));
+
+        assertThat(StarterCacheService.cacheKey(initializrClient.buildQueryParams(first)))
+                .isEqualTo(StarterCacheService.cacheKey(initializrClient.buildQueryParams(second)));
+        assertThat(StarterCacheService.cacheKey(Map.of("dependencies", "web, lombok")))
+                .isEqualTo(StarterCacheService.cacheKey(Map.of("dependencies", "lombok,web")));
+    }
+
+    @Test
+    void shouldKeepLookupsInMemoryUntilFlushed() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+        Map<String, String> params = Map.of("artifactId", "demo");
+        StarterCacheService cache = new StarterCacheService(jsonCodec, cacheDir, 1024 * 1024, DAY_MS);
+        cache.cacheStarter(params, new byte[10]);
+        String persisted = Files.readString(cacheDir.resolve("index.json"));
+
+        assertThat(cache.getCachedStarter(params)).isPresent();
+        assertThat(cache.getCachedStarter(Map.of("artifactId", "other"))).isEmpty();
+        assertThat(Files.readString(cacheDir.resolve("index.json"))).isEqualTo(persisted);
+
+        cache.flush();
+
+        StarterCacheService.CacheStats reloaded = new StarterCacheService(jsonCodec, cacheDir, 1024 * 1024, DAY_MS).getStats();
+        assertThat(reloaded.hits()).isEqualTo(1);
+        assertThat(reloaded.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordMissThenHit() throws Exception {
+        StarterCacheService cache = new StarterCacheService(jsonCodec, tempDir.resolve("cache"), 1024 * 1024, DAY_MS);
+        Map<String, String> params = Map.of("artifactId", "demo");
+
+        assertThat(cache.getCachedStarter(params)).isEmpty();
+
+        cache.cacheStarter(params, new byte[10]);
+
+        assertThat(cache.getCachedStarter(params)).hasValueSatisfying(bytes -> assertThat(bytes).hasSize(10));
+
+        StarterCacheService.CacheStats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.entries()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldPersistIndexAcrossInstances() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+        Map<String, String> params = Map.of("artifactId", "demo");
+
+        new StarterCacheService(jsonCodec, cacheDir, 1024 * 1024, DAY_MS).cacheStarter(params, new byte[10]);
+
+        StarterCacheService reloaded = new StarterCacheService(jsonCodec, cacheDir, 1024 * 1024, DAY_MS);
+        assertThat(reloaded.getCachedStarter(params)).isPresent();
+        assertThat(reloaded.getStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenOverBudget() throws Exception {
+        StarterCacheService cache = new StarterCacheService(jsonCodec, tempDir.resolve("cache"), 25, DAY_MS);
+        Map<String, String> oldest = Map.of("artifactId", "a");
+        Map<String, String> recent = Map.of("artifactId", "b");
+        Map<String, String> newest = Map.of("artifactId", "c");
+
+        cache.cacheStarter(oldest, new byte[10]);
+        Thread.sleep(5);
+        cache.cacheStarter(recent, new byte[10]);
+        Thread.sleep(5);
+        cache.cacheStarter(newest, new byte[10]);
+
+        StarterCacheService.CacheStats stats = cache.getStats();
+        assertThat(stats.entries()).isEqualTo(2);
+        assertThat(stats.evictions()).isEqualTo(1);
+        assertThat(stats.totalBytes()).isLessThanOrEqualTo(25);
+        assertThat(cache.getCachedStarter(oldest)).isEmpty();
+        assertThat(cache.getCachedStarter(newest)).isPresent();
+    }
+
+    @Test
+    void shouldTreatExpiredEntriesAsMisses() throws Exception {
+        StarterCacheService cache = new StarterCacheService(jsonCodec, tempDir.resolve("cache"), 1024 * 1024, -1);
+        Map<String, String> params = Map.of("artifactId", "demo");
+
+        cache.cacheStarter(params, new byte[10]);
+
+        assertThat(cache.getCachedStarter(params)).isEmpty();
+        assertThat(cache.getStats().entries()).isZero();
+    }
+
+    @Test
+    void shouldClearAllEntries() throws Exception {
+        StarterCacheService cache = new StarterCacheService(jsonCodec, tempDir.resolve("cache"), 1024 * 1024, DAY_MS);
+        cache.cacheStarter(Map.of("artifactId", "demo"), new byte[10]);
+
+        cache.clear();
+
+        assertThat(cache.getStats().entries()).isZero();
+        assertThat(cache.getStats().totalBytes()).isZero();
+    }
+
+    private ProjectConfig starterConfig(Set<String> dependencies) {
+        return ProjectConfig.builder()
+                .groupId("com.example")
+                .artifactId("demo")
+                .packageName("com.example.demo")
+                .javaVersion("17")
+                .buildTool("maven-project")
+                .springBootVersion("3.4.1")
+                .dependencies(dependencies)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.springcli.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StaticAssetTest {
+
+    @Test
+    void shouldPrecompressTextAssetsWithStrongEtags() throws Exception {
+        StaticAsset asset = StaticAsset.load("/static/index.html", "text/html; charset=UTF-8").orElseThrow();
+
+        assertThat(asset.cacheControl()).isEqualTo("no-cache");
+        assertThat(asset.gzipBody()).isNotNull().hasSizeLessThan(asset.body().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(asset.gzipBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(asset.body());
+        }
+
+        assertThat(asset.etag(false)).startsWith("\"").doesNotStartWith("\"W/");
+        assertThat(asset.etag(true)).isNotEqualTo(asset.etag(false));
+        assertThat(asset.isNotModified(asset.etag(true))).isTrue();
+        assertThat(asset.isNotModified("\"stale\", " + asset.etag(false))).isTrue();
+        assertThat(asset.isNotModified("\"stale\"")).isFalse();
+        assertThat(asset.isNotModified(null)).isFalse();
+
+        assertThat(asset.canServeGzip("br, gzip, deflate")).isTrue();
+        assertThat(asset.canServeGzip("gzip;q=0")).isFalse();
+        assertThat(asset.canServeGzip("identity")).isFalse();
+    }
+
+    @Test
+    void shouldSkipCompressionForBinaryAssetsAndMissingFiles() throws Exception {
+        StaticAsset icon = StaticAsset.load("/static/icon.png", "image/png").orElseThrow();
+
+        assertThat(icon.gzipBody()).isNull();
+        assertThat(icon.cacheControl()).contains("max-age");
+        assertThat(icon.canServeGzip("gzip")).isFalse();
+        assertThat(StaticAsset.load("/static/missing.css", "text/css")).isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.springcli.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TemplateRegistryTest {
+
+    @Autowired
+    private TemplateRegistry registry;
+
+    @Test
+    void shouldCompileEveryBundledTemplate() {
+        TemplateRegistry.TemplateStats stats = registry.warmUp();
+
+        assertThat(stats.warmedUp()).isTrue();
+        assertThat(stats.failures()).isEmpty();
+        assertThat(stats.compiled()).isGreaterThan(40);
+    }
+
+    @Test
+    void shouldReturnSameCompiledTemplateForLeadingSlash() {
+        assertThat(registry.getTemplate("/java/entity/Entity"))
+                .isSameAs(registry.getTemplate("java/entity/Entity"));
+    }
+
+    @Test
+    void shouldFailForUnknownTemplate() {
+        assertThatThrownBy(() -> registry.getTemplate("java/DoesNotExist"))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -1,10 +1,15 @@
 package com.springcli.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springcli.infra.json.JsonCodec;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
@@ -14,6 +19,15 @@ class UpdateCheckServiceTest {
     @Autowired
     private UpdateCheckService service;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    @TempDir
+    Path tempDir;
+
     @Test
     void shouldCreateService() {
         assertThat(service).isNotNull();
@@ -91,4 +105,26 @@ class UpdateCheckServiceTest {
     void shouldNotThrowExceptionOnCheckForUpdates() {
         assertThatCode(() -> service.checkForUpdates()).doesNotThrowAnyException();
     }
+
+    @Test
+    void shouldAnswerFromFreshCacheWithoutWaitingOnNetwork() throws Exception {
+        Path cacheFile = tempDir.resolve("update-check.json");
+        UpdateCheckService.UpdateInfo cachedInfo = new UpdateCheckService.UpdateInfo(true, "9.9.9", "1.1.0", "https://example.com/release");
+        objectMapper.writeValue(cacheFile.toFile(), new UpdateCheckService.CachedCheck(System.currentTimeMillis(), cachedInfo));
+
+        UpdateCheckService cachedService = new UpdateCheckService(jsonCodec, cacheFile);
+        CompletableFuture<UpdateCheckService.UpdateInfo> result = cachedService.checkForUpdatesAsync();
+
+        assertThat(result).isCompletedWithValue(cachedInfo);
+        assertThat(cachedService.getLastKnownResult()).contains(cachedInfo);
+    }
+
+    @Test
+    void shouldIgnoreCachedResultFromAnotherVersion() throws Exception {
+        Path cacheFile = tempDir.resolve("update-check.json");
+        UpdateCheckService.UpdateInfo oldInfo = new UpdateCheckService.UpdateInfo(true, "1.1.0", "1.0.0", "https://example.com/release");
+        objectMapper.writeValue(cacheFile.toFile(), new UpdateCheckService.CachedCheck(System.currentTimeMillis(), oldInfo));
+
+        assertThat(new UpdateCheckService(jsonCodec, cacheFile).getLastKnownResult()).isEmpty();
+    }
 }
@@ -172,4 +172,10 @@ class DependencyConfigurationRegistryTest {
         assertThat(configs).extracting(DependencyConfiguration::dependencyId)
             .doesNotContain("invalid1", "invalid2");
     }
+
+    @Test
+    void shouldReuseCompiledConfiguration() {
+        assertThat(registry.getConfiguration("postgresql").orElseThrow())
+                .isSameAs(registry.getConfiguration("postgresql").orElseThrow());
+    }
 }